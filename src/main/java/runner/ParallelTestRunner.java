@@ -1,59 +1,114 @@
 package runner;
 
 import com.aventstack.extentreports.Status;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.openqa.selenium.WebDriver;
 import runner.config.TestConfiguration;
 import runner.manager.ReportManager;
 import runner.manager.ScenarioManager;
 import runner.model.step.TestStep;
+import runner.observer.impl.MetricsObserver;
+import runner.util.AdaptivePollPolicy;
+import runner.util.ScenarioCompiler;
+import runner.util.ScenarioDurationStore;
+import runner.util.ScenarioReader;
+import runner.util.ScenarioScheduler;
+import runner.util.ScenarioSource;
+import runner.util.ScenarioStepIterator;
+import runner.util.ScreenshotWriter;
+import runner.util.TargetLocatorUtil;
 import runner.util.WebDriverFactory;
+import runner.util.WebDriverPool;
 
 import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 public class ParallelTestRunner {
 
+    // Scenarios of the LPT schedule shown on the console; large suites are summarized
+    private static final int SCHEDULE_PREVIEW_SIZE = 5;
+
     private final int threadCount;
     private final List<String> scenarioPaths;
+    private final ScenarioSource scenarioSource;
     private final TestConfiguration config;
+    private final WebDriverPool driverPool;
+    private final Semaphore browserSessions;
+    private final ScenarioDurationStore durationStore;
+    private final MetricsObserver metricsObserver;
+    // JVM uptime when the first scenario began executing steps, so discovery and parsing are included
+    private final AtomicLong firstStepUptimeMillis = new AtomicLong(-1);
+    private boolean virtualThreads;
 
     public ParallelTestRunner(int threadCount, List<String> scenarioPaths) {
-        this.threadCount = threadCount;
-        this.scenarioPaths = scenarioPaths;
-        this.config = TestConfiguration.getInstance();
+        this(threadCount, scenarioPaths, null);
     }
     
     public ParallelTestRunner(List<String> scenarioPaths) {
-        this.config = TestConfiguration.getInstance();
-        this.threadCount = config.getThreadCount();
+        this(TestConfiguration.getInstance().getThreadCount(), scenarioPaths, null);
+    }
+
+    /**
+     * Run scenarios as they are discovered instead of from a prepared list
+     */
+    public ParallelTestRunner(ScenarioSource scenarioSource) {
+        this(TestConfiguration.getInstance().getThreadCount(), null, scenarioSource);
+    }
+
+    private ParallelTestRunner(int threadCount, List<String> scenarioPaths, ScenarioSource scenarioSource) {
+        this.threadCount = threadCount;
         this.scenarioPaths = scenarioPaths;
+        this.scenarioSource = scenarioSource;
+        this.config = TestConfiguration.getInstance();
+        this.driverPool = config.isDriverPoolEnabled() ? WebDriverPool.getInstance() : null;
+        this.browserSessions = new Semaphore(config.getMaxBrowserSessions(), true);
+        this.durationStore = config.isLptSchedulingEnabled()
+                ? new ScenarioDurationStore(config.getScenarioDurationsFile()) : null;
+        this.metricsObserver = config.isStepLatencyMetricsEnabled() ? new MetricsObserver() : null;
     }
 
     public void runTests() throws Exception {
         ReportManager.initReports("Parallel Test Suite - " +
                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
 
-        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        ScenarioReader.prewarm();
+        if (metricsObserver != null) {
+            ScenarioManager.getEventPublisher().addObserver(metricsObserver);
+        }
+        ExecutorService executor = createExecutor();
 
-        for (String scenarioPath : scenarioPaths) {
-            executor.submit(() -> {
-                try {
-                    runScenario(scenarioPath);
-                } catch (Exception e) {
-                    System.err.println("Error running scenario " + scenarioPath + ": " + e.getMessage());
-                    e.printStackTrace();
-                }
-            });
+        long predictedMakespan = -1;
+        long submitStart = System.nanoTime();
+        if (scenarioSource != null) {
+            // LPT needs the full list up front, so streamed scenarios run in discovery order
+            submitStreaming(executor);
+        } else {
+            List<String> orderedPaths = scenarioPaths;
+            if (durationStore != null) {
+                ScenarioScheduler.Schedule schedule = new ScenarioScheduler(durationStore)
+                        .schedule(scenarioPaths, getParallelism());
+                orderedPaths = schedule.getOrderedPaths();
+                predictedMakespan = schedule.getPredictedMakespanMillis();
+                System.out.println("LPT schedule: " + orderedPaths.size() + " scenarios, predicted makespan "
+                        + predictedMakespan + " ms, first " + orderedPaths.subList(0, Math.min(SCHEDULE_PREVIEW_SIZE, orderedPaths.size()))
+                        + (orderedPaths.size() > SCHEDULE_PREVIEW_SIZE ? " ..." : ""));
+            }
+
+            for (String scenarioPath : orderedPaths) {
+                executor.submit(() -> runScenarioSafely(scenarioPath));
+            }
         }
 
         executor.shutdown();
@@ -65,19 +120,110 @@ public class ParallelTestRunner {
             executor.shutdownNow();
             Thread.currentThread().interrupt();
         }
+        long actualMakespan = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitStart);
+
+        if (scenarioSource != null) {
+            scenarioSource.close();
+            System.out.println("Scenarios discovered: " + scenarioSource.getDiscoveredCount());
+        }
+
+        System.out.println("Scenario parse cache: " + ScenarioReader.getCacheHits() + " hits, "
+                + ScenarioReader.getCacheMisses() + " misses");
+        System.out.println("Locator cache: " + TargetLocatorUtil.getCacheStats());
+        System.out.println("Wait polling: " + AdaptivePollPolicy.getStats());
+        if (ScenarioManager.getEventPublisher().isAsync()) {
+            System.out.println("Event bus: " + ScenarioManager.getEventPublisher().getQueueStats());
+        }
+
+        if (durationStore != null) {
+            System.out.println("Makespan: " + (predictedMakespan >= 0 ? "predicted " + predictedMakespan + " ms, " : "")
+                    + "actual " + actualMakespan + " ms");
+            durationStore.save();
+        }
+
+        long timeToFirstStep = getTimeToFirstStepMillis();
+        if (timeToFirstStep >= 0) {
+            System.out.println("Time to first step: " + timeToFirstStep + " ms");
+        }
+
+        if (metricsObserver != null) {
+            ScenarioManager.getEventPublisher().removeObserver(metricsObserver);
+            exportStepLatency();
+        }
+
+        // Screenshot steps do not wait for their files; make sure they are on disk
+        ScreenshotWriter screenshotWriter = ScreenshotWriter.getInstance();
+        if (!screenshotWriter.flush(TimeUnit.SECONDS.toMillis(config.getScreenshotWriteTimeoutSeconds()))) {
+            System.err.println("Warning: " + screenshotWriter.getPendingCount() + " screenshots are still being written");
+        }
+        ScreenshotWriter.ScreenshotStats screenshotStats = screenshotWriter.getStats();
+        if (screenshotStats.getWritten() + screenshotStats.getFailed() > 0) {
+            System.out.println("Screenshots: " + screenshotStats);
+        }
+
+        if (driverPool != null) {
+            System.out.println("WebDriver pool: " + driverPool.getStats());
+            driverPool.shutdown();
+        }
 
         ReportManager.flushReports();
     }
 
+    /**
+     * Print the step latency percentiles and the slowest actions, and write all histograms to the reports directory
+     */
+    private void exportStepLatency() {
+        MetricsObserver.ExecutionMetrics metrics = metricsObserver.getMetrics();
+        System.out.println("Step latency: " + metrics.getStepLatency());
+        metrics.getLatencyByAction().entrySet().stream()
+                .limit(5)
+                .forEach(entry -> System.out.println("  " + entry.getKey() + ": " + entry.getValue()));
+
+        Path latencyFile = Paths.get(config.getReportsDirectory(), "step-latency.csv");
+        try {
+            metricsObserver.exportLatency(latencyFile);
+            System.out.println("Step latency histograms: " + latencyFile);
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write " + latencyFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * One worker per parallel slot, each pulling paths from the source until it is exhausted
+     */
+    private void submitStreaming(ExecutorService executor) {
+        scenarioSource.start();
+        for (int i = 0; i < getParallelism(); i++) {
+            executor.submit(() -> {
+                try {
+                    String scenarioPath;
+                    while ((scenarioPath = scenarioSource.next()) != null) {
+                        runScenarioSafely(scenarioPath);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+    }
+
+    private void runScenarioSafely(String scenarioPath) {
+        try {
+            runScenario(scenarioPath);
+        } catch (Exception e) {
+            System.err.println("Error running scenario " + scenarioPath + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
 
     private void runScenario(String scenarioPath) throws Exception {
         Path path = Paths.get(scenarioPath);
         String testName = path.getFileName().toString().replace(".json", "");
+        ReportManager.startTest("Scenario: " + testName + " [Thread: " + currentThreadName() + "]");
 
-        ReportManager.startTest("Scenario: " + testName + " [Thread: " + Thread.currentThread().getName() + "]");
-
+        WebDriver driver = null;
+        boolean sessionAcquired = false;
         try {
-            ObjectMapper mapper = new ObjectMapper();
             File scenarioFile = new File(scenarioPath);
 
             if (scenarioFile.exists()) {
@@ -87,22 +233,128 @@ public class ParallelTestRunner {
                 throw new RuntimeException("Scenario file not found: " + scenarioPath);
             }
 
-            var steps = mapper.readValue(scenarioFile, new TypeReference<List<TestStep>>() {
-            });
-            ReportManager.log(Status.INFO, "Total step count: " + steps.size());
+            List<TestStep> steps = null;
+            if (!config.isStepStreamingEnabled()) {
+                steps = readSteps(scenarioFile.toPath());
+                ReportManager.log(Status.INFO, "Total step count: " + steps.size());
+            }
 
-            WebDriver driver = WebDriverFactory.createDriverFromConfig();
+            acquireBrowserSession();
+            sessionAcquired = true;
+            driver = acquireDriver();
+            // Measured from the lease so queueing for a session does not count as scenario time
+            long scenarioStart = System.nanoTime();
+            int stepCount;
             ReportManager.setWebDriver(driver);
             ReportManager.log(Status.INFO, "Starting test case with " + config.getBrowserType() + " browser");
 
-            ScenarioManager.start(driver, steps);
+            if (firstStepUptimeMillis.get() < 0) {
+                firstStepUptimeMillis.compareAndSet(-1, ManagementFactory.getRuntimeMXBean().getUptime());
+            }
+            if (steps != null) {
+                ScenarioManager.start(driver, steps, testName);
+                stepCount = steps.size();
+            } else {
+                // Steps are parsed one at a time while earlier steps execute
+                try (ScenarioStepIterator stepIterator = ScenarioReader.stream(scenarioFile.toPath())) {
+                    ScenarioManager.startStreaming(driver, stepIterator, testName);
+                    stepCount = stepIterator.getStepsRead();
+                    ReportManager.log(Status.INFO, "Total step count: " + stepCount);
+                }
+            }
             ReportManager.log(Status.PASS, "Test completed successfully.");
-            WebDriverFactory.quitDriver(driver);
+            if (durationStore != null) {
+                durationStore.record(scenarioPath, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scenarioStart),
+                        stepCount);
+            }
         } catch (Exception e) {
             ReportManager.log(Status.FAIL, "An error occurred during testing: " + e.getMessage());
             throw e;
         } finally {
+            releaseDriver(driver);
+            if (sessionAcquired) {
+                browserSessions.release();
+            }
             ReportManager.endTest();
         }
     }
+
+    /**
+     * Compiled steps when a fresh compiled file exists, otherwise the JSON scenario
+     */
+    private List<TestStep> readSteps(Path scenarioFile) throws IOException {
+        if (config.isCompiledScenariosEnabled()) {
+            Optional<List<TestStep>> compiled = ScenarioCompiler.loadIfFresh(scenarioFile);
+            if (compiled.isPresent()) {
+                ReportManager.log(Status.INFO, "Loaded compiled scenario: " + ScenarioCompiler.compiledPath(scenarioFile));
+                return compiled.get();
+            }
+        }
+        return ScenarioReader.read(scenarioFile);
+    }
+
+    /**
+     * Milliseconds from process start until the first scenario began executing steps, or -1 if no
+     * scenario got that far. Scenario discovery and parsing before {@link #runTests()} are included.
+     */
+    public long getTimeToFirstStepMillis() {
+        return firstStepUptimeMillis.get();
+    }
+
+    /**
+     * Virtual threads when enabled and supported by the running JVM, otherwise a fixed pool of threadCount
+     */
+    private ExecutorService createExecutor() {
+        if (config.isVirtualThreadsEnabled()) {
+            try {
+                ExecutorService executor = (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor")
+                        .invoke(null);
+                System.out.println("Using virtual threads, max " + config.getMaxBrowserSessions() + " browser sessions");
+                virtualThreads = true;
+                return executor;
+            } catch (ReflectiveOperationException e) {
+                System.err.println("Virtual threads are not available on Java " +
+                        System.getProperty("java.version") + ", falling back to " + threadCount + " platform threads");
+            }
+        }
+        return Executors.newFixedThreadPool(threadCount);
+    }
+
+    /**
+     * Number of scenarios that can run at the same time
+     */
+    private int getParallelism() {
+        int sessions = config.getMaxBrowserSessions();
+        return virtualThreads ? sessions : Math.min(threadCount, sessions);
+    }
+
+    /**
+     * Wait for browser capacity; scenario parsing and reporting happen outside this limit
+     */
+    private void acquireBrowserSession() throws InterruptedException {
+        browserSessions.acquire();
+    }
+
+    private static String currentThreadName() {
+        String name = Thread.currentThread().getName();
+        // Virtual threads are unnamed by default
+        return name.isEmpty() ? "virtual-" + Thread.currentThread().getId() : name;
+    }
+
+    private WebDriver acquireDriver() {
+        return driverPool != null ? driverPool.lease() : WebDriverFactory.createDriverFromConfig();
+    }
+
+    private void releaseDriver(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+
+        if (driverPool != null) {
+            driverPool.release(driver);
+        } else {
+            WebDriverFactory.quitDriver(driver);
+        }
+    }
 }
\ No newline at end of file
@@ -1,17 +1,26 @@
 package runner;
 
 import runner.config.TestConfiguration;
+import runner.util.ScenarioCompiler;
+import runner.util.ScenarioSource;
+import runner.util.WebDriverPool;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class TestRunner {
     public static void main(String[] args) throws Exception {
         TestConfiguration config = TestConfiguration.getInstance();
         List<String> scenarioPaths = new ArrayList<>();
+        List<Path> scenarioDirs = new ArrayList<>();
+        List<String> includes = new ArrayList<>(splitGlobs(config.getScenarioIncludes()));
+        List<String> excludes = new ArrayList<>(splitGlobs(config.getScenarioExcludes()));
+        boolean streaming = config.isScenarioStreamingEnabled();
+        boolean compileOnly = false;
+        int threadCount = config.getThreadCount();
 
         // Parse command line arguments
         for (int i = 0; i < args.length; i++) {
@@ -22,19 +31,46 @@ public class TestRunner {
                 }
             } else if ("-scenarioDir".equals(args[i])) {
                 if (i + 1 < args.length && !args[i + 1].startsWith("-")) {
-                    String dirPath = args[i + 1];
-                    try {
-                        List<String> files = Files.list(Paths.get(dirPath))
-                                .map(Path::toString)
-                                .filter(string -> string.endsWith(".json"))
-                                .toList();
-                        scenarioPaths.addAll(files);
-                    } catch (Exception e) {
-                        System.err.println("Error reading scenario directory: " + e.getMessage());
-                    }
+                    scenarioDirs.add(Paths.get(args[i + 1]));
+                    i++;
+                }
+            } else if ("-include".equals(args[i])) {
+                if (i + 1 < args.length) {
+                    includes.addAll(splitGlobs(args[i + 1]));
                     i++;
                 }
+            } else if ("-exclude".equals(args[i])) {
+                if (i + 1 < args.length) {
+                    excludes.addAll(splitGlobs(args[i + 1]));
+                    i++;
+                }
+            } else if ("-stream".equals(args[i])) {
+                streaming = true;
+            } else if ("-compile".equals(args[i])) {
+                compileOnly = true;
+            }
+        }
+
+        // Start browsers in the background while scenarios are discovered and parsed
+        if (!compileOnly && config.isDriverPoolEnabled() && config.isDriverPoolPrewarmEnabled()) {
+            WebDriverPool.getInstance().prewarm(threadCount);
+        }
+
+        // Scenario directories are walked recursively and filtered by the include/exclude globs
+        if (!scenarioDirs.isEmpty()) {
+            List<Path> roots = new ArrayList<>(scenarioDirs);
+            scenarioPaths.stream().map(Paths::get).forEach(roots::add);
+            ScenarioSource source = new ScenarioSource(roots, includes, excludes, config.getScenarioQueueCapacity());
+
+            if (streaming && !compileOnly) {
+                System.out.println("Streaming scenarios from " + scenarioDirs + " with " + threadCount + " threads");
+                System.out.println("Browser: " + config.getBrowserType());
+                System.out.println("Environment: " + config.getEnvironment());
+                new ParallelTestRunner(source).runTests();
+                return;
             }
+
+            scenarioPaths = source.toList();
         }
 
         // If no scenarios specified, use default
@@ -44,8 +80,12 @@ public class TestRunner {
             scenarioPaths.add("scenarios/test1.json");
         }
 
+        if (compileOnly) {
+            compileScenarios(scenarioPaths);
+            return;
+        }
+
         // Run tests in parallel
-        int threadCount = config.getThreadCount();
         System.out.println("Running tests in parallel with " + threadCount + " threads");
         System.out.println("Browser: " + config.getBrowserType());
         System.out.println("Environment: " + config.getEnvironment());
@@ -55,4 +95,31 @@ public class TestRunner {
         runner.runTests();
 
     }
+
+    /**
+     * Write the compiled form of each scenario next to its JSON file
+     */
+    private static void compileScenarios(List<String> scenarioPaths) {
+        int compiled = 0;
+        for (String scenarioPath : scenarioPaths) {
+            try {
+                Path target = ScenarioCompiler.compile(Paths.get(scenarioPath));
+                System.out.println("Compiled " + scenarioPath + " -> " + target);
+                compiled++;
+            } catch (Exception e) {
+                System.err.println("Error compiling scenario " + scenarioPath + ": " + e.getMessage());
+            }
+        }
+        System.out.println("Compiled " + compiled + " of " + scenarioPaths.size() + " scenarios");
+    }
+
+    private static List<String> splitGlobs(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(glob -> !glob.isEmpty())
+                .toList();
+    }
 }
@@ -3,9 +3,11 @@ package runner.command;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.WebDriver;
 import runner.executor.ActionExecutor;
+import runner.executor.ActionRegistry;
 import runner.manager.ScenarioManager;
 import runner.model.step.TestStep;
 import runner.observer.TestExecutionEvent;
+import runner.observer.TestExecutionEventPublisher;
 
 /**
  * Command that encapsulates the execution of a single test step
@@ -17,14 +19,13 @@ public class StepExecutionCommand implements Command {
     private final TestStep step;
     private final int stepIndex;
     private final String stepName;
-    private final String stepInfo;
+    private String stepInfo;
     
     public StepExecutionCommand(WebDriver driver, TestStep step, int stepIndex) {
         this.driver = driver;
         this.step = step;
         this.stepIndex = stepIndex;
         this.stepName = step.getName() != null ? step.getName() : "Unnamed Step";
-        this.stepInfo = String.format("Step %d: %s (%s)", stepIndex + 1, stepName, step.getClass().getSimpleName());
     }
     
     @Override
@@ -37,44 +38,49 @@ public class StepExecutionCommand implements Command {
             throw new IllegalStateException("TestStep is null");
         }
         
-        log.debug("Executing command: {}", stepInfo);
+        TestExecutionEventPublisher publisher = ScenarioManager.getEventPublisher();
+        if (log.isDebugEnabled()) {
+            log.debug("Executing command: {}", getStepInfo());
+        }
         
         // Publish step started event
-        ScenarioManager.getEventPublisher().publishEvent(new TestExecutionEvent(
-            TestExecutionEvent.EventType.STEP_STARTED, step, stepIndex, stepInfo));
+        if (publisher.isInterested(TestExecutionEvent.EventType.STEP_STARTED)) {
+            publisher.publishEvent(new TestExecutionEvent(
+                TestExecutionEvent.EventType.STEP_STARTED, step, stepIndex, getStepInfo()));
+        }
         
         try {
-            // Validate step
-            validateStep();
-            
-            // Execute the step
-            @SuppressWarnings("unchecked")
-            ActionExecutor<TestStep> executor = (ActionExecutor<TestStep>) step.getAction().executor();
+            // Validate step and resolve its shared executor
+            ActionExecutor<TestStep> executor = resolveExecutor();
             executor.execute(driver, step);
             
-            log.debug("Successfully executed command: {}", stepInfo);
+            if (log.isDebugEnabled()) {
+                log.debug("Successfully executed command: {}", getStepInfo());
+            }
             
             // Publish step completed event
-            ScenarioManager.getEventPublisher().publishEvent(new TestExecutionEvent(
-                TestExecutionEvent.EventType.STEP_COMPLETED, step, stepIndex, "Step executed successfully"));
+            if (publisher.isInterested(TestExecutionEvent.EventType.STEP_COMPLETED)) {
+                publisher.publishEvent(new TestExecutionEvent(
+                    TestExecutionEvent.EventType.STEP_COMPLETED, step, stepIndex, "Step executed successfully"));
+            }
                 
         } catch (Exception e) {
-            log.error("Command execution failed: {} - {}", stepInfo, e.getMessage());
+            log.error("Command execution failed: {} - {}", getStepInfo(), e.getMessage());
             
             // Publish step failed event
-            ScenarioManager.getEventPublisher().publishEvent(new TestExecutionEvent(
+            publisher.publishEvent(new TestExecutionEvent(
                 TestExecutionEvent.EventType.STEP_FAILED, step, stepIndex, e.getMessage(), e));
             throw e;
         }
     }
     
-    private void validateStep() {
-        if (step.getAction() == null) {
+    private ActionExecutor<TestStep> resolveExecutor() {
+        if (!ActionRegistry.supports(step)) {
             throw new IllegalArgumentException("Step action cannot be null");
         }
         
         try {
-            step.getAction().executor();
+            return ActionRegistry.executorFor(step);
         } catch (Exception e) {
             throw new IllegalArgumentException("Failed to get executor for action: " + step.getAction(), e);
         }
@@ -82,12 +88,12 @@ public class StepExecutionCommand implements Command {
     
     @Override
     public boolean canExecute() {
-        return driver != null && step != null && step.getAction() != null;
+        return driver != null && ActionRegistry.supports(step);
     }
     
     @Override
     public String getDescription() {
-        return String.format("Execute %s", stepInfo);
+        return String.format("Execute %s", getStepInfo());
     }
     
     @Override
@@ -100,5 +106,14 @@ public class StepExecutionCommand implements Command {
     public TestStep getStep() { return step; }
     public int getStepIndex() { return stepIndex; }
     public String getStepName() { return stepName; }
-    public String getStepInfo() { return stepInfo; }
+    
+    /**
+     * Step description, built on first use since the hot path only needs it for logs and events
+     */
+    public String getStepInfo() {
+        if (stepInfo == null) {
+            stepInfo = String.format("Step %d: %s (%s)", stepIndex + 1, stepName, step.getClass().getSimpleName());
+        }
+        return stepInfo;
+    }
 }
\ No newline at end of file
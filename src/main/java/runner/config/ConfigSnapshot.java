@@ -0,0 +1,40 @@
+package runner.config;
+
+/**
+ * Typed values of the settings read on every step or wait, parsed once when the configuration is
+ * loaded. Reading one is a plain field load, so hot paths use {@link TestConfiguration#current()}
+ * instead of going through the property lookup and parsing of the regular getters.
+ */
+public record ConfigSnapshot(
+        int implicitWaitSeconds,
+        int explicitWaitSeconds,
+        int pageLoadTimeoutSeconds,
+        int scriptTimeoutSeconds,
+        boolean eventDrivenWaitsEnabled,
+        boolean waitCoordinationEnabled,
+        boolean adaptivePollingEnabled,
+        int pollInitialMillis,
+        int pollMaxMillis,
+        boolean elementCacheEnabled,
+        int locatorCacheSize,
+        boolean screenshotOnFailure) {
+
+    /**
+     * Parse the snapshot values from the loaded properties
+     */
+    static ConfigSnapshot compile(TestConfiguration config) {
+        return new ConfigSnapshot(
+                config.getIntProperty("implicit.wait.seconds", TestConfiguration.DEFAULT_IMPLICIT_WAIT),
+                config.getIntProperty("explicit.wait.seconds", TestConfiguration.DEFAULT_EXPLICIT_WAIT),
+                config.getIntProperty("page.load.timeout.seconds", TestConfiguration.DEFAULT_PAGE_LOAD_TIMEOUT),
+                config.getIntProperty("script.timeout.seconds", TestConfiguration.DEFAULT_SCRIPT_TIMEOUT),
+                config.getBooleanProperty("wait.events.enabled", true),
+                config.getBooleanProperty("wait.coordination.enabled", true),
+                config.getBooleanProperty("wait.poll.adaptive.enabled", true),
+                config.getIntProperty("wait.poll.initial.millis", 5),
+                config.getIntProperty("wait.poll.max.millis", 1000),
+                config.getBooleanProperty("element.cache.enabled", false),
+                config.getIntProperty("locator.cache.size", 1024),
+                config.getBooleanProperty("screenshot.on.failure", true));
+    }
+}
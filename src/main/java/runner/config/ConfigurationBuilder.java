@@ -59,6 +59,27 @@ public class ConfigurationBuilder {
         return this;
     }
     
+    public ConfigurationBuilder eventDrivenWaits(boolean enabled) {
+        overrides.put("wait.events.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder waitCoordination(boolean enabled) {
+        overrides.put("wait.coordination.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder adaptivePolling(boolean enabled) {
+        overrides.put("wait.poll.adaptive.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder pollIntervalRange(int initialMillis, int maxMillis) {
+        overrides.put("wait.poll.initial.millis", String.valueOf(initialMillis));
+        overrides.put("wait.poll.max.millis", String.valueOf(maxMillis));
+        return this;
+    }
+    
     public ConfigurationBuilder pageLoadTimeout(int seconds) {
         overrides.put("page.load.timeout.seconds", String.valueOf(seconds));
         return this;
@@ -117,6 +138,50 @@ public class ConfigurationBuilder {
         return this;
     }
     
+    public ConfigurationBuilder screenshotWriterThreads(int threads) {
+        overrides.put("screenshot.writer.threads", String.valueOf(threads));
+        return this;
+    }
+    
+    public ConfigurationBuilder screenshotEncoding(String format, double jpegQuality, int maxWidth) {
+        overrides.put("screenshot.format", format);
+        overrides.put("screenshot.jpeg.quality", String.valueOf(jpegQuality));
+        overrides.put("screenshot.max.width", String.valueOf(maxWidth));
+        return this;
+    }
+    
+    public ConfigurationBuilder screenshotDeduplication(boolean enabled, int nearDuplicateDistance) {
+        overrides.put("screenshot.dedup.enabled", String.valueOf(enabled));
+        overrides.put("screenshot.dedup.near.distance", String.valueOf(nearDuplicateDistance));
+        return this;
+    }
+    
+    public ConfigurationBuilder streamingReport(boolean enabled) {
+        overrides.put("report.streaming.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder reportHtml(boolean enabled) {
+        overrides.put("report.html.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder stepLatencyMetrics(boolean enabled) {
+        overrides.put("metrics.step.latency.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder asyncEvents(boolean enabled) {
+        overrides.put("events.async.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder eventQueue(int capacity, String overflowPolicy) {
+        overrides.put("events.queue.capacity", String.valueOf(capacity));
+        overrides.put("events.overflow.policy", overflowPolicy);
+        return this;
+    }
+    
     // Database Configuration Overrides
     public ConfigurationBuilder databaseUrl(String url) {
         overrides.put("database.url", url);
@@ -140,6 +205,81 @@ public class ConfigurationBuilder {
         return this;
     }
     
+    public ConfigurationBuilder virtualThreads(boolean enabled) {
+        overrides.put("virtual.threads.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder maxBrowserSessions(int max) {
+        overrides.put("max.browser.sessions", String.valueOf(max));
+        return this;
+    }
+    
+    public ConfigurationBuilder scenarioStreaming(boolean enabled) {
+        overrides.put("scenario.streaming.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder scenarioInclude(String globs) {
+        overrides.put("scenario.include", globs);
+        return this;
+    }
+    
+    public ConfigurationBuilder scenarioExclude(String globs) {
+        overrides.put("scenario.exclude", globs);
+        return this;
+    }
+    
+    public ConfigurationBuilder scenarioCacheSize(int size) {
+        overrides.put("scenario.cache.size", String.valueOf(size));
+        return this;
+    }
+    
+    public ConfigurationBuilder elementCache(boolean enabled) {
+        overrides.put("element.cache.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder locatorCacheSize(int size) {
+        overrides.put("locator.cache.size", String.valueOf(size));
+        return this;
+    }
+    
+    public ConfigurationBuilder compiledScenarios(boolean enabled) {
+        overrides.put("scenario.compiled.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder stepStreaming(boolean enabled) {
+        overrides.put("step.streaming.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder lptScheduling(boolean enabled) {
+        overrides.put("scheduler.lpt.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder scenarioDurationsFile(String file) {
+        overrides.put("scheduler.durations.file", file);
+        return this;
+    }
+    
+    public ConfigurationBuilder driverPool(boolean enabled) {
+        overrides.put("driver.pool.enabled", String.valueOf(enabled));
+        return this;
+    }
+    
+    public ConfigurationBuilder driverPoolSize(int size) {
+        overrides.put("driver.pool.size", String.valueOf(size));
+        return this;
+    }
+    
+    public ConfigurationBuilder driverPoolPrewarm(boolean enabled) {
+        overrides.put("driver.pool.prewarm", String.valueOf(enabled));
+        return this;
+    }
+    
     // Generic property override
     public ConfigurationBuilder property(String key, String value) {
         overrides.put(key, value);
@@ -11,17 +11,19 @@ import java.nio.file.Paths;
 
 public class TestConfiguration {
     
-    private static TestConfiguration instance;
+    // Replaced as a whole by getInstance(environment) and reset(), never modified in place
+    private static volatile TestConfiguration instance;
     private final Properties properties;
     private final String environment;
+    private final ConfigSnapshot snapshot;
     
     // Default configuration values
     private static final String DEFAULT_BROWSER = "CHROME";
     private static final boolean DEFAULT_HEADLESS = false;
-    private static final int DEFAULT_IMPLICIT_WAIT = 10;
-    private static final int DEFAULT_PAGE_LOAD_TIMEOUT = 30;
-    private static final int DEFAULT_SCRIPT_TIMEOUT = 30;
-    private static final int DEFAULT_EXPLICIT_WAIT = 10;
+    static final int DEFAULT_IMPLICIT_WAIT = 10;
+    static final int DEFAULT_PAGE_LOAD_TIMEOUT = 30;
+    static final int DEFAULT_SCRIPT_TIMEOUT = 30;
+    static final int DEFAULT_EXPLICIT_WAIT = 10;
     private static final boolean DEFAULT_MAXIMIZE_WINDOW = true;
     private static final String DEFAULT_SCREENSHOT_DIR = "screenshots";
     private static final String DEFAULT_REPORTS_DIR = "reports";
@@ -30,6 +32,7 @@ public class TestConfiguration {
     private TestConfiguration(String environment) {
         this.environment = environment != null ? environment : "default";
         this.properties = loadProperties();
+        this.snapshot = ConfigSnapshot.compile(this);
     }
     
     public static TestConfiguration getInstance() {
@@ -45,6 +48,17 @@ public class TestConfiguration {
         return instance;
     }
     
+    /**
+     * Typed snapshot of the current configuration, for code that runs on every step or wait
+     */
+    public static ConfigSnapshot current() {
+        return getInstance().snapshot;
+    }
+    
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+    
     public static TestConfiguration getInstance(String environment) {
         instance = new TestConfiguration(environment);
         return instance;
@@ -142,19 +156,43 @@ public class TestConfiguration {
     
     // Timeout Configuration
     public int getImplicitWaitSeconds() {
-        return getIntProperty("implicit.wait.seconds", DEFAULT_IMPLICIT_WAIT);
+        return snapshot.implicitWaitSeconds();
     }
     
     public int getPageLoadTimeoutSeconds() {
-        return getIntProperty("page.load.timeout.seconds", DEFAULT_PAGE_LOAD_TIMEOUT);
+        return snapshot.pageLoadTimeoutSeconds();
     }
     
     public int getScriptTimeoutSeconds() {
-        return getIntProperty("script.timeout.seconds", DEFAULT_SCRIPT_TIMEOUT);
+        return snapshot.scriptTimeoutSeconds();
     }
     
     public int getExplicitWaitSeconds() {
-        return getIntProperty("explicit.wait.seconds", DEFAULT_EXPLICIT_WAIT);
+        return snapshot.explicitWaitSeconds();
+    }
+    
+    public boolean isEventDrivenWaitsEnabled() {
+        return snapshot.eventDrivenWaitsEnabled();
+    }
+    
+    public boolean isWaitCoordinationEnabled() {
+        return snapshot.waitCoordinationEnabled();
+    }
+    
+    public boolean isAdaptivePollingEnabled() {
+        return snapshot.adaptivePollingEnabled();
+    }
+    
+    public int getPollInitialMillis() {
+        return snapshot.pollInitialMillis();
+    }
+    
+    public int getPollMaxMillis() {
+        return snapshot.pollMaxMillis();
+    }
+    
+    public int getTableRowsLoadTimeoutMillis() {
+        return getIntProperty("table.rows.load.timeout.millis", 1000);
     }
     
     // Application Configuration
@@ -189,13 +227,85 @@ public class TestConfiguration {
     }
     
     public boolean isScreenshotOnFailure() {
-        return getBooleanProperty("screenshot.on.failure", true);
+        return snapshot.screenshotOnFailure();
     }
     
     public boolean isVideoRecording() {
         return getBooleanProperty("video.recording", false);
     }
     
+    public int getScreenshotWriterThreads() {
+        return getIntProperty("screenshot.writer.threads", 2);
+    }
+    
+    public int getScreenshotQueueCapacity() {
+        return getIntProperty("screenshot.queue.capacity", 32);
+    }
+    
+    public String getScreenshotFormat() {
+        return getProperty("screenshot.format", "PNG");
+    }
+    
+    public float getScreenshotJpegQuality() {
+        return (float) getDoubleProperty("screenshot.jpeg.quality", 0.8);
+    }
+    
+    public int getScreenshotMaxWidth() {
+        return getIntProperty("screenshot.max.width", 0);
+    }
+    
+    public boolean isScreenshotDeduplicationEnabled() {
+        return getBooleanProperty("screenshot.dedup.enabled", true);
+    }
+    
+    public int getScreenshotNearDuplicateDistance() {
+        return getIntProperty("screenshot.dedup.near.distance", -1);
+    }
+    
+    public int getScreenshotWriteTimeoutSeconds() {
+        return getIntProperty("screenshot.write.timeout.seconds", 30);
+    }
+    
+    public boolean isStreamingReportEnabled() {
+        return getBooleanProperty("report.streaming.enabled", true);
+    }
+    
+    public int getReportQueueCapacity() {
+        return getIntProperty("report.queue.capacity", 4096);
+    }
+    
+    public boolean isReportHtmlEnabled() {
+        return getBooleanProperty("report.html.enabled", true);
+    }
+    
+    public boolean isStepLatencyMetricsEnabled() {
+        return getBooleanProperty("metrics.step.latency.enabled", true);
+    }
+    
+    public int getStepLatencyMaxKeys() {
+        return getIntProperty("metrics.step.latency.max.keys", 200);
+    }
+    
+    public boolean isAsyncEventsEnabled() {
+        return getBooleanProperty("events.async.enabled", false);
+    }
+    
+    public int getEventQueueCapacity() {
+        return getIntProperty("events.queue.capacity", 1024);
+    }
+    
+    public String getEventOverflowPolicy() {
+        return getProperty("events.overflow.policy", "BLOCK");
+    }
+    
+    public int getEventSampleRate() {
+        return getIntProperty("events.sample.rate", 10);
+    }
+    
+    public int getEventFlushTimeoutSeconds() {
+        return getIntProperty("events.flush.timeout.seconds", 30);
+    }
+    
     // Database Configuration (if needed)
     public String getDatabaseUrl() {
         return getProperty("database.url", null);
@@ -227,6 +337,74 @@ public class TestConfiguration {
         return getThreadCount() > 1;
     }
     
+    public boolean isVirtualThreadsEnabled() {
+        return getBooleanProperty("virtual.threads.enabled", false);
+    }
+    
+    public int getMaxBrowserSessions() {
+        return getIntProperty("max.browser.sessions", getThreadCount());
+    }
+    
+    // Scenario Discovery Configuration
+    public boolean isScenarioStreamingEnabled() {
+        return getBooleanProperty("scenario.streaming.enabled", false);
+    }
+    
+    public String getScenarioIncludes() {
+        return getProperty("scenario.include", "**.json");
+    }
+    
+    public String getScenarioExcludes() {
+        return getProperty("scenario.exclude", "");
+    }
+    
+    public int getScenarioQueueCapacity() {
+        return getIntProperty("scenario.queue.capacity", 256);
+    }
+    
+    public int getScenarioCacheSize() {
+        return getIntProperty("scenario.cache.size", 128);
+    }
+    
+    public boolean isElementCacheEnabled() {
+        return snapshot.elementCacheEnabled();
+    }
+    
+    public int getLocatorCacheSize() {
+        return snapshot.locatorCacheSize();
+    }
+    
+    public boolean isCompiledScenariosEnabled() {
+        return getBooleanProperty("scenario.compiled.enabled", true);
+    }
+    
+    public boolean isStepStreamingEnabled() {
+        return getBooleanProperty("step.streaming.enabled", false);
+    }
+    
+    // Scenario Scheduling Configuration
+    public boolean isLptSchedulingEnabled() {
+        return getBooleanProperty("scheduler.lpt.enabled", false);
+    }
+    
+    public String getScenarioDurationsFile() {
+        return getProperty("scheduler.durations.file",
+                Paths.get(getReportsDirectory(), "scenario-durations.properties").toString());
+    }
+    
+    // WebDriver Pool Configuration
+    public boolean isDriverPoolEnabled() {
+        return getBooleanProperty("driver.pool.enabled", false);
+    }
+    
+    public int getDriverPoolSize() {
+        return getIntProperty("driver.pool.size", getMaxBrowserSessions());
+    }
+    
+    public boolean isDriverPoolPrewarmEnabled() {
+        return getBooleanProperty("driver.pool.prewarm", true);
+    }
+    
     // Environment Information
     public String getEnvironment() {
         return environment;
@@ -316,10 +494,18 @@ public class TestConfiguration {
             System.out.println("Parallel Execution: " + getThreadCount() + " threads");
         }
         
+        if (isVirtualThreadsEnabled()) {
+            System.out.println("Virtual Threads: max " + getMaxBrowserSessions() + " browser sessions");
+        }
+        
         if (isRetryEnabled()) {
             System.out.println("Retry Count: " + getRetryCount());
         }
         
+        if (isDriverPoolEnabled()) {
+            System.out.println("WebDriver Pool: " + getDriverPoolSize() + " sessions per browser");
+        }
+        
         System.out.println("========================");
     }
     
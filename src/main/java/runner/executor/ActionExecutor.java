@@ -1,17 +1,23 @@
 package runner.executor;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import runner.model.Target;
+import runner.util.ElementCache;
 import runner.util.ElementFinder;
 import runner.util.TargetLocatorUtil;
 import runner.util.WebDriverWaitUtil;
 
 public abstract class ActionExecutor<T>{
 
+    /**
+     * Find the target's element; the locator is validated when it is first compiled, not on every lookup
+     */
     protected WebElement find(WebDriver driver, Target target) {
-        TargetLocatorUtil.validateTarget(target);
-        return driver.findElement(TargetLocatorUtil.getBy(target));
+        By locator = TargetLocatorUtil.getBy(target);
+        ElementCache cache = ElementCache.current(driver);
+        return cache != null ? cache.find(locator) : driver.findElement(locator);
     }
     
     // Enhanced element finding with utility classes
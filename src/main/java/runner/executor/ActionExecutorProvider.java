@@ -0,0 +1,26 @@
+package runner.executor;
+
+import runner.model.step.TestStep;
+
+/**
+ * Service provider for custom actions. Implementations are discovered with {@link java.util.ServiceLoader}
+ * from {@code META-INF/services/runner.executor.ActionExecutorProvider}, so new actions can ship in
+ * their own jar without changing {@link runner.model.step.TestAction} or the subtypes on {@link TestStep}.
+ */
+public interface ActionExecutorProvider {
+
+    /**
+     * Value of the {@code action} property that selects this action in scenario JSON
+     */
+    String getActionName();
+
+    /**
+     * Step class the scenario JSON is deserialized into
+     */
+    Class<? extends TestStep> getStepType();
+
+    /**
+     * Create the executor; it is created once and shared by all steps, so it must be stateless
+     */
+    ActionExecutor<? extends TestStep> createExecutor();
+}
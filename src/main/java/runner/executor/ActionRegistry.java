@@ -0,0 +1,192 @@
+package runner.executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import lombok.extern.slf4j.Slf4j;
+import runner.model.step.TestAction;
+import runner.model.step.TestStep;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of shared action executors. Executors are stateless, so one instance per action is
+ * reused for every step. The dispatch table is immutable: built-in actions are indexed by ordinal
+ * and plugin actions, discovered through {@link ActionExecutorProvider} with {@link ServiceLoader},
+ * are keyed by step type. Registering an executor at runtime swaps in a new table.
+ */
+@Slf4j
+public final class ActionRegistry {
+
+    private static final TestAction[] ACTIONS = TestAction.values();
+
+    private static volatile DispatchTable table = DispatchTable.load();
+
+    private ActionRegistry() {
+    }
+
+    /**
+     * Get the shared executor for a built-in action
+     */
+    public static ActionExecutor<?> get(TestAction action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        return table.builtIns[action.ordinal()];
+    }
+
+    /**
+     * Get the executor for an action name: a plugin action or a built-in one
+     */
+    public static ActionExecutor<?> get(String actionName) {
+        DispatchTable current = table;
+        Class<? extends TestStep> stepType = current.pluginStepTypes.get(actionName);
+        if (stepType != null) {
+            return current.pluginsByStepType.get(stepType);
+        }
+
+        for (TestAction action : ACTIONS) {
+            if (action.name().equals(actionName)) {
+                return current.builtIns[action.ordinal()];
+            }
+        }
+        throw new IllegalArgumentException("No executor registered for action: " + actionName);
+    }
+
+    /**
+     * Get the executor that runs the given step. Built-in steps dispatch on their action,
+     * plugin steps on their class.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends TestStep> ActionExecutor<T> executorFor(T step) {
+        if (step == null) {
+            throw new IllegalArgumentException("Step cannot be null");
+        }
+
+        DispatchTable current = table;
+        if (step.getAction() != null) {
+            return (ActionExecutor<T>) current.builtIns[step.getAction().ordinal()];
+        }
+
+        ActionExecutor<?> plugin = current.pluginsByStepType.get(step.getClass());
+        if (plugin == null) {
+            throw new IllegalArgumentException("Step action cannot be null");
+        }
+        return (ActionExecutor<T>) plugin;
+    }
+
+    /**
+     * Check whether the step has an executor, either built-in or from a plugin
+     */
+    public static boolean supports(TestStep step) {
+        return step != null
+            && (step.getAction() != null || table.pluginsByStepType.containsKey(step.getClass()));
+    }
+
+    /**
+     * Check whether an executor exists for the given action name
+     */
+    public static boolean isRegistered(String actionName) {
+        if (table.pluginStepTypes.containsKey(actionName)) {
+            return true;
+        }
+        return Arrays.stream(ACTIONS).anyMatch(action -> action.name().equals(actionName));
+    }
+
+    /**
+     * Step types of the discovered plugin actions, keyed by action name
+     */
+    public static Map<String, Class<? extends TestStep>> getPluginStepTypes() {
+        return table.pluginStepTypes;
+    }
+
+    /**
+     * Register the plugin step types with a mapper so scenario JSON can use plugin action names
+     */
+    public static <M extends ObjectMapper> M configure(M mapper) {
+        table.pluginStepTypes.forEach((name, type) -> mapper.registerSubtypes(new NamedType(type, name)));
+        return mapper;
+    }
+
+    /**
+     * Replace the executor of a built-in action
+     */
+    public static synchronized void register(TestAction action, ActionExecutor<?> executor) {
+        validateRegistration(action != null ? action.name() : null, executor);
+        DispatchTable current = table;
+        ActionExecutor<?>[] builtIns = current.builtIns.clone();
+        builtIns[action.ordinal()] = executor;
+        table = new DispatchTable(builtIns, current.pluginsByStepType, current.pluginStepTypes);
+        log.debug("Registered executor {} for built-in action {}", executor.getClass().getSimpleName(), action);
+    }
+
+    /**
+     * Rebuild the dispatch table from the built-in actions and the discovered plugins
+     */
+    public static synchronized void reset() {
+        table = DispatchTable.load();
+    }
+
+    private static void validateRegistration(String actionName, ActionExecutor<?> executor) {
+        if (actionName == null || actionName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Action name cannot be null or empty");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+    }
+
+    private static final class DispatchTable {
+        private final ActionExecutor<?>[] builtIns;
+        private final Map<Class<?>, ActionExecutor<?>> pluginsByStepType;
+        private final Map<String, Class<? extends TestStep>> pluginStepTypes;
+
+        private DispatchTable(ActionExecutor<?>[] builtIns,
+                              Map<Class<?>, ActionExecutor<?>> pluginsByStepType,
+                              Map<String, Class<? extends TestStep>> pluginStepTypes) {
+            this.builtIns = builtIns;
+            this.pluginsByStepType = Map.copyOf(pluginsByStepType);
+            this.pluginStepTypes = Map.copyOf(pluginStepTypes);
+        }
+
+        private static DispatchTable load() {
+            long start = System.nanoTime();
+
+            ActionExecutor<?>[] builtIns = new ActionExecutor<?>[ACTIONS.length];
+            for (TestAction action : ACTIONS) {
+                builtIns[action.ordinal()] = action.createExecutor();
+            }
+
+            Map<Class<?>, ActionExecutor<?>> byStepType = new HashMap<>();
+            Map<String, Class<? extends TestStep>> stepTypes = new LinkedHashMap<>();
+            try {
+                for (ActionExecutorProvider provider : ServiceLoader.load(ActionExecutorProvider.class)) {
+                    String name = provider.getActionName();
+                    if (Arrays.stream(ACTIONS).anyMatch(action -> action.name().equals(name))) {
+                        log.warn("Ignoring plugin {}: action {} is built in", provider.getClass().getName(), name);
+                        continue;
+                    }
+                    if (stepTypes.containsKey(name)) {
+                        log.warn("Ignoring plugin {}: action {} is already registered", provider.getClass().getName(), name);
+                        continue;
+                    }
+
+                    byStepType.put(provider.getStepType(), provider.createExecutor());
+                    stepTypes.put(name, provider.getStepType());
+                }
+            } catch (ServiceConfigurationError e) {
+                log.error("Failed to load action plugins: {}", e.getMessage());
+            }
+
+            if (!stepTypes.isEmpty()) {
+                log.info("Loaded {} plugin action(s) {} in {}ms", stepTypes.size(), stepTypes.keySet(),
+                    (System.nanoTime() - start) / 1_000_000);
+            }
+            return new DispatchTable(builtIns, byStepType, stepTypes);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package runner.executor.basic;
 import org.openqa.selenium.WebDriver;
 import runner.executor.ActionExecutor;
 import runner.model.step.basic.NavigateActionStep;
+import runner.util.ElementCache;
 
 public class NavigateActionExecutor extends ActionExecutor<NavigateActionStep> {
 
@@ -20,5 +21,6 @@ public class NavigateActionExecutor extends ActionExecutor<NavigateActionStep> {
         }
         
         driver.get(url);
+        ElementCache.invalidate(driver);
     }
 }
@@ -4,12 +4,11 @@ import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.WebDriver;
 import runner.executor.ActionExecutor;
+import runner.manager.ReportManager;
 import runner.model.step.basic.ScreenshootActionStep;
 import runner.config.TestConfiguration;
+import runner.util.ScreenshotWriter;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
@@ -40,19 +39,12 @@ public class ScreenshootActionExecutor extends ActionExecutor<ScreenshootActionS
                 screenshotDir = DEFAULT_SCREENSHOTS_DIR;
             }
             
-            Path screenshotsDir = Paths.get(screenshotDir);
-            if (!Files.exists(screenshotsDir)) {
-                Files.createDirectories(screenshotsDir);
-            }
-            
-            // Take screenshot
-            File src = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            Path dest = screenshotsDir.resolve(filename);
-            
-            Files.copy(src.toPath(), dest, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            // Take screenshot; encoding and writing happen on the screenshot writer threads, and the
+            // scenario report warns at its end if the write failed
+            byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            Path dest = Paths.get(screenshotDir, filename);
+            ReportManager.attachScreenshot(filename, ScreenshotWriter.getInstance().write(png, dest));
             
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to save screenshot: " + e.getMessage(), e);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to take screenshot: " + e.getMessage(), e);
         }
@@ -60,13 +52,14 @@ public class ScreenshootActionExecutor extends ActionExecutor<ScreenshootActionS
     
     private String generateScreenshotFilename(String stepName) {
         String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+        ScreenshotWriter writer = ScreenshotWriter.getInstance();
         
         if (stepName != null && !stepName.trim().isEmpty()) {
             // Sanitize filename
             String sanitized = stepName.trim().replaceAll("[^a-zA-Z0-9.-]", "_");
-            return sanitized + "_" + timestamp + ".png";
+            return writer.fileName(sanitized + "_" + timestamp);
         } else {
-            return "screenshot_" + timestamp + ".png";
+            return writer.fileName("screenshot_" + timestamp);
         }
     }
 }
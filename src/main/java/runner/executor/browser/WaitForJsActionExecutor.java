@@ -6,6 +6,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import runner.executor.ActionExecutor;
 import runner.model.step.browser.WaitForJsActionStep;
+import runner.util.AdaptiveWait;
 
 import java.time.Duration;
 
@@ -21,7 +22,7 @@ public class WaitForJsActionExecutor extends ActionExecutor<WaitForJsActionStep>
         }
         
         JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(step.getTimeout()));
+        WebDriverWait wait = new AdaptiveWait(driver, Duration.ofSeconds(step.getTimeout()), "js:" + step.getScript());
         
         try {
             wait.until(webDriver -> {
@@ -1,16 +1,10 @@
 package runner.executor.condition;
 
-import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import runner.executor.ActionExecutor;
 import runner.model.step.condition.ConditionActionStep;
-
-import java.time.Duration;
-
-import static runner.util.TargetLocatorUtil.getBy;
+import runner.util.DomWait;
 
 public class ConditionActionExecutor extends ActionExecutor<ConditionActionStep> {
     @Override
@@ -33,28 +27,21 @@ public class ConditionActionExecutor extends ActionExecutor<ConditionActionStep>
             throw new IllegalArgumentException("Timeout must be positive, got: " + timeout);
         }
         
-        By by = getBy(step.getTarget());
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-
         boolean condition = switch (step.getType()) {
             case VISIBLE -> {
-                wait.until(ExpectedConditions.visibilityOfElementLocated(by));
-                WebElement element = driver.findElement(by);
+                WebElement element = DomWait.untilElement(driver, step.getTarget(), DomWait.Condition.VISIBLE, timeout);
                 yield element.isDisplayed();
             }
             case PRESENT -> {
-                wait.until(ExpectedConditions.presenceOfElementLocated(by));
-                WebElement element = driver.findElement(by);
+                WebElement element = DomWait.untilElement(driver, step.getTarget(), DomWait.Condition.PRESENT, timeout);
                 yield element != null;
             }
             case CLICKABLE -> {
-                wait.until(ExpectedConditions.elementToBeClickable(by));
-                WebElement element = driver.findElement(by);
+                WebElement element = DomWait.untilElement(driver, step.getTarget(), DomWait.Condition.CLICKABLE, timeout);
                 yield element.isDisplayed() && element.isEnabled();
             }
             case SELECTED -> {
-                wait.until(ExpectedConditions.presenceOfElementLocated(by));
-                WebElement element = driver.findElement(by);
+                WebElement element = DomWait.untilElement(driver, step.getTarget(), DomWait.Condition.PRESENT, timeout);
                 yield element.isSelected();
             }
         };
@@ -1,16 +1,10 @@
 package runner.executor.waiting;
 
-import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import runner.executor.ActionExecutor;
 import runner.model.step.waiting.WaitActionStep;
 import runner.model.step.waiting.WaitType;
-
-import java.time.Duration;
-
-import static runner.util.TargetLocatorUtil.getBy;
+import runner.util.DomWait;
 
 public class WaitActionExecutor extends ActionExecutor<WaitActionStep> {
     @Override
@@ -20,23 +14,20 @@ public class WaitActionExecutor extends ActionExecutor<WaitActionStep> {
         }
         
         int timeout = step.getTimeout() != null ? step.getTimeout() : 10;
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-        By locator = getBy(step.getTarget());
-        
         WaitType waitType = step.getWaitType() != null ? step.getWaitType() : WaitType.VISIBLE;
         
         switch (waitType) {
             case VISIBLE:
-                wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+                DomWait.untilElement(driver, step.getTarget(), DomWait.Condition.VISIBLE, timeout);
                 break;
             case INVISIBLE:
-                wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+                DomWait.untilInvisible(driver, step.getTarget(), timeout);
                 break;
             case PRESENT:
-                wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+                DomWait.untilElement(driver, step.getTarget(), DomWait.Condition.PRESENT, timeout);
                 break;
             case CLICKABLE:
-                wait.until(ExpectedConditions.elementToBeClickable(locator));
+                DomWait.untilElement(driver, step.getTarget(), DomWait.Condition.CLICKABLE, timeout);
                 break;
             default:
                 throw new IllegalArgumentException("Unsupported wait type: " + waitType);
@@ -3,10 +3,12 @@ package runner.executor.window;
 import org.openqa.selenium.WebDriver;
 import runner.executor.ActionExecutor;
 import runner.model.step.window.BackWindowActionStep;
+import runner.util.ElementCache;
 
 public class BackWindowActionExecutor extends ActionExecutor<BackWindowActionStep> {
     @Override
     public void execute(WebDriver driver, BackWindowActionStep step) {
         driver.navigate().back();
+        ElementCache.invalidate(driver);
     }
 }
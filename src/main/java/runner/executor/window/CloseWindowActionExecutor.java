@@ -3,6 +3,7 @@ package runner.executor.window;
 import org.openqa.selenium.WebDriver;
 import runner.executor.ActionExecutor;
 import runner.model.step.window.CloseWindowActionStep;
+import runner.util.ElementCache;
 
 /**
  * Executor for closing the current window or tab
@@ -12,8 +13,11 @@ public class CloseWindowActionExecutor extends ActionExecutor<CloseWindowActionS
     @Override
     public void execute(WebDriver driver, CloseWindowActionStep step) {
         driver.close();
+        ElementCache.invalidate(driver);
         if (!driver.getWindowHandles().isEmpty()) {
-            driver.switchTo().window(driver.getWindowHandles().iterator().next());
+            String handle = driver.getWindowHandles().iterator().next();
+            driver.switchTo().window(handle);
+            ElementCache.switchedToWindow(driver, handle);
         }
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.WebDriver;
 import runner.executor.ActionExecutor;
 import runner.model.step.window.SwitchToWindowActionStep;
+import runner.util.ElementCache;
 
 import java.util.Set;
 
@@ -17,6 +18,7 @@ public class SwitchToWindowActionExecutor extends ActionExecutor<SwitchToWindowA
         if (step.getWindowHandle() != null) {
             // Switch by handle
             driver.switchTo().window(step.getWindowHandle());
+            ElementCache.switchedToWindow(driver, step.getWindowHandle());
         } else if (step.getWindowTitleOrUrl() != null) {
             // Switch by title or URL
             switchTitleOrUrl(driver, step);
@@ -29,7 +31,9 @@ public class SwitchToWindowActionExecutor extends ActionExecutor<SwitchToWindowA
                 throw new NoSuchWindowException("No new window found");
             }
             
-            driver.switchTo().window(handles.iterator().next());
+            String handle = handles.iterator().next();
+            driver.switchTo().window(handle);
+            ElementCache.switchedToWindow(driver, handle);
         }
     }
 
@@ -42,6 +46,7 @@ public class SwitchToWindowActionExecutor extends ActionExecutor<SwitchToWindowA
             driver.switchTo().window(handle);
             if (driver.getTitle().contains(step.getWindowTitleOrUrl()) ||
                 driver.getCurrentUrl().contains(step.getWindowTitleOrUrl())) {
+                ElementCache.switchedToWindow(driver, handle);
                 switched = true;
                 break;
             }
@@ -0,0 +1,346 @@
+package runner.manager;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only report log: one JSON record per line (NDJSON), written by a background thread.
+ * Scenarios append each record as it happens, tagged with their test id, so records of concurrent
+ * scenarios interleave in the file. Producers only wait when the bounded queue is full, so memory
+ * stays constant however many and however long scenarios run, and a crash or a hung scenario keeps
+ * everything written before it. If the writer fails, or stays a full queue behind for
+ * {@link #APPEND_TIMEOUT_MILLIS}, records are dropped and counted instead of blocking the scenarios.
+ * The Extent HTML view is rendered from the log afterwards with {@link #render}, which regroups the
+ * records by test id.
+ */
+@Slf4j
+public final class ReportLog implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final ObjectWriter ENTRY_WRITER = MAPPER.writerFor(Entry.class);
+    private static final ObjectReader ENTRY_READER = MAPPER.readerFor(Entry.class);
+
+    /** Longest a producer waits for queue space before its records are dropped */
+    static final long APPEND_TIMEOUT_MILLIS = 30_000;
+    private static final long POLL_MILLIS = 100;
+
+    // Wakes the writer thread on close
+    private static final List<Entry> CLOSE = List.of(new Entry(0, "close", 0, null, null, null));
+
+    private final Path file;
+    // Chunks of records, usually a single one; records of a chunk are written together
+    private final BlockingQueue<List<Entry>> queue;
+    private final Thread writerThread;
+    private final BufferedWriter writer;
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Object flushMonitor = new Object();
+    private volatile boolean closed;
+    // Set by the writer thread when it stops on an error; nothing is written after that
+    private volatile boolean failed;
+
+    /**
+     * Record types written to the log
+     */
+    public enum Type {
+        SUITE, TEST_START, LOG, STEP, SCREENSHOT, TEST_END
+    }
+
+    /**
+     * One line of the log
+     */
+    public record Entry(long time, String type, long test, String name, String status, String message) {
+
+        static Entry of(Type type, long test, String name, Status status, String message) {
+            return new Entry(System.currentTimeMillis(), type.name(), test, name,
+                status != null ? status.name() : null, message);
+        }
+    }
+
+    ReportLog(Path file, BufferedWriter writer, int capacity) {
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(Math.max(2, capacity));
+        this.writer = writer;
+        this.writerThread = new Thread(this::writeLoop, "report-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Open a log for appending and start its writer thread
+     */
+    public static ReportLog open(Path file, int queueCapacity) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new ReportLog(file,
+            Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND), queueCapacity);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Queue a record; waits only while the writer is a full queue behind
+     */
+    public void append(Type type, long test, String name, Status status, String message) {
+        appendAll(List.of(Entry.of(type, test, name, status, message)));
+    }
+
+    /**
+     * Queue records as one chunk; the writer never puts records of other chunks between them
+     */
+    public void appendAll(List<Entry> entries) {
+        if (closed || entries.isEmpty()) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(APPEND_TIMEOUT_MILLIS);
+        try {
+            // Short waits, so producers stop waiting as soon as the writer fails
+            while (!failed) {
+                if (queue.offer(entries, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (!failed) {
+                        enqueued.addAndGet(entries.size());
+                        return;
+                    }
+                    // The writer stopped meanwhile and counted the chunk as dropped, unless it is still queued
+                    if (!queue.remove(entries)) {
+                        return;
+                    }
+                    break;
+                }
+                if (System.nanoTime() - deadline > 0) {
+                    log.warn("Report log {} is {} chunks behind; dropped {} record(s)", file, queue.size(), entries.size());
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.addAndGet(entries.size());
+    }
+
+    /**
+     * Wait until every record queued so far is written and flushed to disk
+     */
+    public void flush() {
+        long target = enqueued.get();
+        synchronized (flushMonitor) {
+            while (written.get() < target && writerThread.isAlive() && !failed) {
+                try {
+                    flushMonitor.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Records that were not written because the writer failed or fell too far behind
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Write what is queued, then stop the writer and close the file
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        try {
+            // The writer may be busy with a full queue; it frees space until it stops
+            while (writerThread.isAlive() && !queue.offer(CLOSE, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                // retry
+            }
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.get() > 0) {
+            log.warn("Report log {} dropped {} record(s)", file, dropped.get());
+        }
+    }
+
+    private void writeLoop() {
+        List<List<Entry>> batch = new ArrayList<>();
+        try {
+            while (!closed || !queue.isEmpty()) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                int count = 0;
+                for (List<Entry> chunk : batch) {
+                    if (chunk == CLOSE) {
+                        continue;
+                    }
+                    for (Entry entry : chunk) {
+                        writer.write(ENTRY_WRITER.writeValueAsString(entry));
+                        writer.newLine();
+                    }
+                    count += chunk.size();
+                }
+                // One flush per batch: a crash loses at most what was still queued
+                writer.flush();
+                batch.clear();
+                written.addAndGet(count);
+                synchronized (flushMonitor) {
+                    flushMonitor.notifyAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            failed = true;
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            failed = true;
+            log.error("Could not write report log {}, further records are dropped: {}", file, e.getMessage());
+        } finally {
+            if (failed) {
+                // Records still queued will never be written
+                List<List<Entry>> unwritten = new ArrayList<>();
+                queue.drainTo(unwritten);
+                batch.addAll(unwritten);
+                batch.stream().filter(chunk -> chunk != CLOSE).forEach(chunk -> dropped.addAndGet(chunk.size()));
+            }
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Could not close report log {}: {}", file, e.getMessage());
+            }
+            synchronized (flushMonitor) {
+                flushMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Replay a report log into Extent reports. Only tests that are still open are tracked, and a
+     * truncated last line, e.g. after a crash, ends the replay.
+     * @return number of tests rendered
+     */
+    public static int render(Path logFile, ExtentReports extent) throws IOException {
+        Replay replay = new Replay(extent);
+        try (MappingIterator<Entry> entries = ENTRY_READER.readValues(logFile.toFile())) {
+            while (true) {
+                Entry entry;
+                try {
+                    if (!entries.hasNext()) {
+                        break;
+                    }
+                    entry = entries.next();
+                } catch (RuntimeException e) {
+                    log.warn("Report log {} ends with an incomplete record: {}", logFile, e.getMessage());
+                    break;
+                }
+                replay.apply(entry);
+            }
+        }
+        return replay.tests;
+    }
+
+    /**
+     * Add buffered records to Extent reports; the caller guards the report against other writers
+     * @return number of tests added
+     */
+    static int replay(List<Entry> entries, ExtentReports extent) {
+        Replay replay = new Replay(extent);
+        for (Entry entry : entries) {
+            replay.apply(entry);
+        }
+        return replay.tests;
+    }
+
+    /**
+     * Builds Extent tests from records, keeping the times they were recorded at
+     */
+    private static final class Replay {
+        private final ExtentReports extent;
+        private final Map<Long, ExtentTest> openTests = new HashMap<>();
+        private int tests;
+
+        private Replay(ExtentReports extent) {
+            this.extent = extent;
+        }
+
+        private void apply(Entry entry) {
+            Type type = Type.valueOf(entry.type());
+            if (type == Type.SUITE) {
+                // The suite name is part of the report the caller created
+                return;
+            }
+            if (type == Type.TEST_START) {
+                ExtentTest test = extent.createTest(entry.name());
+                test.getModel().setStartTime(new Date(entry.time()));
+                openTests.put(entry.test(), test);
+                tests++;
+                return;
+            }
+
+            ExtentTest test = type == Type.TEST_END ? openTests.remove(entry.test()) : openTests.get(entry.test());
+            if (test == null) {
+                return;
+            }
+            switch (type) {
+                case LOG -> test.log(toStatus(entry.status()), entry.message());
+                case STEP -> {
+                    ExtentTest node = test.createNode(entry.name()).log(toStatus(entry.status()), entry.message());
+                    node.getModel().setStartTime(new Date(entry.time()));
+                    node.getModel().setEndTime(new Date(entry.time()));
+                }
+                case SCREENSHOT -> test.addScreenCaptureFromPath(entry.message());
+                case TEST_END -> test.getModel().setEndTime(new Date(entry.time()));
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static Status toStatus(String status) {
+        try {
+            return status != null ? Status.valueOf(status) : Status.INFO;
+        } catch (IllegalArgumentException e) {
+            return Status.INFO;
+        }
+    }
+}
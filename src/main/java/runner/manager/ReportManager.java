@@ -1,7 +1,6 @@
 package runner.manager;
 
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
@@ -9,23 +8,34 @@ import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import runner.config.TestConfiguration;
+import runner.util.ScreenshotWriter;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ReportManager {
-    private static ExtentReports extent;
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
-    private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static volatile ExtentReports extent;
+    // With report.streaming.enabled, records go to this log and the HTML is rendered from it at the end
+    private static volatile ReportLog reportLog;
+    private static String reportHtmlPath;
+    private static String suiteName;
+    private static final AtomicLong testIds = new AtomicLong();
+    // Scenario state is bound to the thread running it; this also holds for virtual threads.
+    // For the in-memory Extent report, records are buffered per scenario and published once, at
+    // endTest(); the report log gets each record as it happens.
+    private static final ThreadLocal<ScenarioReport> scenario = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
     private static final String REPORT_DIRECTORY = "test-reports";
 
-    public static void initReports(String testSuiteName) {
-        if (extent == null) {
+    public static synchronized void initReports(String testSuiteName) {
+        if (extent == null && reportLog == null) {
             // Rapor dizinini oluştur
             createReportDirectory();
 
@@ -39,22 +49,39 @@ public class ReportManager {
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
             String reportPath = reportsDir + "/report_" + timestamp + ".html";
 
-            // ExtentReports nesnesini yapılandır
-            ExtentSparkReporter reporter = new ExtentSparkReporter(reportPath);
-            reporter.config().setDocumentTitle("Test Automation Report");
-            reporter.config().setReportName(testSuiteName);
-            reporter.config().setTheme(Theme.STANDARD);
-            reporter.config().setEncoding("utf-8");
-
-            // ExtentReports'u başlat
-            extent = new ExtentReports();
-            extent.attachReporter(reporter);
-            extent.setSystemInfo("Operation System", System.getProperty("os.name"));
-            extent.setSystemInfo("Java version", System.getProperty("java.version"));
-            extent.setSystemInfo("Test scenario", testSuiteName);
+            if (config.isStreamingReportEnabled()) {
+                Path logPath = Paths.get(reportsDir, "report_" + timestamp + ".ndjson");
+                try {
+                    reportLog = ReportLog.open(logPath, config.getReportQueueCapacity());
+                    reportHtmlPath = reportPath;
+                    suiteName = testSuiteName;
+                    reportLog.append(ReportLog.Type.SUITE, 0, testSuiteName, null, null);
+                    return;
+                } catch (IOException e) {
+                    System.err.println("Could not open report log " + logPath + ", keeping the report in memory: " + e.getMessage());
+                }
+            }
+
+            extent = createExtentReports(reportPath, testSuiteName);
         }
     }
 
+    private static ExtentReports createExtentReports(String reportPath, String testSuiteName) {
+        // ExtentReports nesnesini yapılandır
+        ExtentSparkReporter reporter = new ExtentSparkReporter(reportPath);
+        reporter.config().setDocumentTitle("Test Automation Report");
+        reporter.config().setReportName(testSuiteName);
+        reporter.config().setTheme(Theme.STANDARD);
+        reporter.config().setEncoding("utf-8");
+
+        ExtentReports reports = new ExtentReports();
+        reports.attachReporter(reporter);
+        reports.setSystemInfo("Operation System", System.getProperty("os.name"));
+        reports.setSystemInfo("Java version", System.getProperty("java.version"));
+        reports.setSystemInfo("Test scenario", testSuiteName);
+        return reports;
+    }
+
     private static void createReportDirectory() {
         TestConfiguration config = TestConfiguration.getInstance();
         String reportsDir = config.getReportsDirectory();
@@ -77,74 +104,138 @@ public class ReportManager {
     }
 
     public static void startTest(String testName) {
-        ExtentTest extentTest = extent.createTest(testName);
-        test.set(extentTest);
+        scenario.set(new ScenarioReport(testIds.incrementAndGet(), testName, reportLog));
     }
 
     public static void endTest() {
-        test.remove();
+        ScenarioReport report = scenario.get();
+        if (report != null) {
+            report.awaitScreenshots(TimeUnit.SECONDS.toMillis(
+                    TestConfiguration.getInstance().getScreenshotWriteTimeoutSeconds()));
+            publish(report);
+        }
+        scenario.remove();
+        driver.remove();
+    }
+
+    private static void publish(ScenarioReport report) {
+        ExtentReports reports = extent;
+        if (reports != null) {
+            report.publishTo(reports);
+        } else {
+            // Streamed records are already in the log; this appends the screenshots and the end
+            report.finish();
+        }
     }
 
     public static void log(Status status, String message) {
-        if (test.get() != null) {
-            test.get().log(status, message);
+        ScenarioReport report = scenario.get();
+        if (report != null) {
+            report.log(status, message);
         }
     }
 
     public static void logStep(Status status, String stepName, String description) {
-        if (test.get() != null) {
-            ExtentTest step = test.get().createNode(stepName);
-            step.log(status, description);
+        ScenarioReport report = scenario.get();
+        if (report != null) {
+            report.step(status, stepName, description);
         }
     }
 
+    /**
+     * Capture a screenshot; it is encoded and written in the background
+     * @return path relative to the reports directory, or null if nothing was captured
+     */
     public static String takeScreenshot(String screenshotName) {
+        String screenshotPath = newScreenshotPath(screenshotName);
+        return captureScreenshot(screenshotPath) != null ? screenshotPath : null;
+    }
+
+    public static void attachScreenshot(String screenshotName) {
+        CompletableFuture<String> screenshot = captureScreenshot(newScreenshotPath(screenshotName));
+        ScenarioReport report = scenario.get();
+        if (screenshot != null && report != null) {
+            // Attached when the file is written; endTest() waits for it
+            report.screenshot(screenshotName, screenshot);
+        }
+    }
+
+    /**
+     * Attach a screenshot that is being written elsewhere, e.g. by the screenshot step; endTest()
+     * reports it as a warning if the write fails or does not finish in time
+     */
+    public static void attachScreenshot(String screenshotName, CompletableFuture<Path> write) {
+        ScenarioReport report = scenario.get();
+        if (report != null) {
+            Path reportsRoot = Paths.get(getReportsDirectory()).toAbsolutePath();
+            report.screenshot(screenshotName, write.thenApply(
+                    file -> reportsRoot.relativize(file.toAbsolutePath()).toString().replace('\\', '/')));
+        }
+    }
+
+    private static String newScreenshotPath(String screenshotName) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        return "screenshots/" + ScreenshotWriter.getInstance().fileName(screenshotName + "_" + timestamp);
+    }
+
+    /**
+     * Grab the screenshot bytes on this thread and hand them to the screenshot writer
+     * @return completes with the relative path once the file is written
+     */
+    private static CompletableFuture<String> captureScreenshot(String screenshotPath) {
         if (driver.get() == null) {
             log(Status.WARNING, "Failed to capture screenshot: WebDriver instance not found.");
             return null;
         }
 
         try {
-            TakesScreenshot ts = (TakesScreenshot) driver.get();
-            File source = ts.getScreenshotAs(OutputType.FILE);
-
-            // Ekran görüntüsü dizinini oluştur
-            TestConfiguration config = TestConfiguration.getInstance();
-            String baseReportsDir = config.getReportsDirectory();
-            if (baseReportsDir == null || baseReportsDir.trim().isEmpty()) {
-                baseReportsDir = REPORT_DIRECTORY;
-            }
-            
-            String screenshotDir = baseReportsDir + "/screenshots";
-            Path dirPath = Paths.get(screenshotDir);
-            if (!Files.exists(dirPath)) {
-                Files.createDirectories(dirPath);
-            }
-
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = screenshotName + "_" + timestamp + ".png";
-            String destination = screenshotDir + "/" + fileName;
-
-            Files.copy(source.toPath(), Paths.get(destination));
-
-            // Göreceli yolu döndür
-            return "screenshots/" + fileName;
+            byte[] png = ((TakesScreenshot) driver.get()).getScreenshotAs(OutputType.BYTES);
+            Path reportsRoot = Paths.get(getReportsDirectory());
+            // A deduplicated screenshot may be referenced through its stored image instead
+            return ScreenshotWriter.getInstance().write(png, reportsRoot.resolve(screenshotPath))
+                    .thenApply(file -> reportsRoot.relativize(file).toString().replace('\\', '/'));
         } catch (Exception e) {
             log(Status.WARNING, "Could not take screenshot: " + e.getMessage());
             return null;
         }
     }
 
-    public static void attachScreenshot(String screenshotName) {
-        String screenshotPath = takeScreenshot(screenshotName);
-        if (screenshotPath != null && test.get() != null) {
-            test.get().addScreenCaptureFromPath(screenshotPath);
+    private static String getReportsDirectory() {
+        String reportsDir = TestConfiguration.getInstance().getReportsDirectory();
+        return reportsDir == null || reportsDir.trim().isEmpty() ? REPORT_DIRECTORY : reportsDir;
+    }
+
+    public static synchronized void flushReports() {
+        ReportLog streamingLog = reportLog;
+        if (streamingLog != null) {
+            streamingLog.close();
+            reportLog = null;
+            System.out.println("Report log: " + streamingLog.getFile());
+            if (TestConfiguration.getInstance().isReportHtmlEnabled()) {
+                renderHtml(streamingLog.getFile());
+            }
+            return;
+        }
+        ExtentReports reports = extent;
+        if (reports != null) {
+            // Scenarios publish under the same lock
+            synchronized (reports) {
+                reports.flush();
+            }
         }
     }
 
-    public static void flushReports() {
-        if (extent != null) {
-            extent.flush();
+    /**
+     * Render the Extent HTML report from a streamed report log
+     */
+    private static void renderHtml(Path logFile) {
+        try {
+            ExtentReports reports = createExtentReports(reportHtmlPath, suiteName);
+            int tests = ReportLog.render(logFile, reports);
+            reports.flush();
+            System.out.println("Rendered " + tests + " tests to " + reportHtmlPath);
+        } catch (IOException e) {
+            System.err.println("Could not render " + reportHtmlPath + " from " + logFile + ": " + e.getMessage());
         }
     }
 }
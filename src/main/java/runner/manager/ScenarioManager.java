@@ -4,17 +4,20 @@ import com.aventstack.extentreports.Status;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.*;
 import runner.executor.ActionExecutor;
+import runner.executor.ActionRegistry;
 import runner.model.step.TestStep;
 import runner.observer.TestExecutionEvent;
 import runner.observer.TestExecutionEventPublisher;
 import runner.strategy.ExecutionContext;
+import runner.util.ElementCache;
 
+import java.util.Iterator;
 import java.util.List;
 
 @Slf4j
 public class ScenarioManager {
     
-    private static final TestExecutionEventPublisher eventPublisher = new TestExecutionEventPublisher();
+    private static final TestExecutionEventPublisher eventPublisher = TestExecutionEventPublisher.createConfigured();
     
     public static class StepExecutionException extends RuntimeException {
         private final TestStep failedStep;
@@ -42,7 +45,18 @@ public class ScenarioManager {
         start(driver, steps, context);
     }
     
+    /**
+     * Run a named scenario; the name is the scenario event message, so observers can group by it
+     */
+    public static void start(WebDriver driver, List<TestStep> steps, String scenarioName) {
+        start(driver, steps, ExecutionContext.createConfigured(), scenarioName);
+    }
+    
     public static void start(WebDriver driver, List<TestStep> steps, ExecutionContext executionContext) {
+        start(driver, steps, executionContext, null);
+    }
+    
+    private static void start(WebDriver driver, List<TestStep> steps, ExecutionContext executionContext, String scenarioName) {
         // Input validation
         if (driver == null) {
             throw new IllegalArgumentException("WebDriver cannot be null");
@@ -58,11 +72,12 @@ public class ScenarioManager {
             return;
         }
         
-        String scenarioMessage = String.format("Scenario with %d steps using %s", 
+        String scenarioMessage = scenarioName != null ? scenarioName : String.format("Scenario with %d steps using %s", 
             steps.size(), executionContext.getStrategy().getStrategyName());
         log.info("Starting scenario execution with {} steps using strategy: {}", 
             steps.size(), executionContext.getStrategy().getStrategyName());
         eventPublisher.publishScenarioStarted(scenarioMessage);
+        ElementCache.open(driver);
         
         try {
             // Use strategy pattern for execution
@@ -75,6 +90,74 @@ public class ScenarioManager {
             log.error("Scenario execution failed: {}", e.getMessage());
             eventPublisher.publishScenarioFailed("Scenario execution failed", e);
             throw e;
+        } finally {
+            closeElementCache();
+            // Scenario events must reach async observers before the scenario's report is closed
+            eventPublisher.flush();
+        }
+    }
+    
+    /**
+     * Run steps as they are read from the iterator instead of from a fully parsed list
+     */
+    public static void startStreaming(WebDriver driver, Iterator<TestStep> steps) throws Exception {
+        startStreaming(driver, steps, ExecutionContext.createConfigured());
+    }
+    
+    /**
+     * Stream a named scenario; the name is the scenario event message, so observers can group by it
+     */
+    public static void startStreaming(WebDriver driver, Iterator<TestStep> steps, String scenarioName) throws Exception {
+        startStreaming(driver, steps, ExecutionContext.createConfigured(), scenarioName);
+    }
+    
+    public static void startStreaming(WebDriver driver, Iterator<TestStep> steps, ExecutionContext executionContext) throws Exception {
+        startStreaming(driver, steps, executionContext, null);
+    }
+    
+    private static void startStreaming(WebDriver driver, Iterator<TestStep> steps, ExecutionContext executionContext,
+                                       String scenarioName) throws Exception {
+        if (driver == null) {
+            throw new IllegalArgumentException("WebDriver cannot be null");
+        }
+        
+        if (executionContext == null) {
+            throw new IllegalArgumentException("ExecutionContext cannot be null");
+        }
+        
+        if (steps == null || !steps.hasNext()) {
+            log.warn("No steps provided to execute");
+            eventPublisher.publishScenarioCompleted("No steps to execute");
+            return;
+        }
+        
+        String strategyName = executionContext.getStrategy().getStrategyName();
+        log.info("Starting streaming scenario execution using strategy: {}", strategyName);
+        eventPublisher.publishScenarioStarted(scenarioName != null ? scenarioName : "Streaming scenario using " + strategyName);
+        ElementCache.open(driver);
+        
+        try {
+            executionContext.executeStreaming(driver, steps);
+            
+            log.info("Scenario execution completed successfully");
+            eventPublisher.publishScenarioCompleted("All steps executed successfully");
+            
+        } catch (Exception e) {
+            log.error("Scenario execution failed: {}", e.getMessage());
+            eventPublisher.publishScenarioFailed("Scenario execution failed", e);
+            throw e;
+        } finally {
+            closeElementCache();
+            eventPublisher.flush();
+        }
+    }
+    
+    private static void closeElementCache() {
+        ElementCache.ElementCacheStats stats = ElementCache.close();
+        if (stats != null) {
+            log.info("Element cache: {}", stats);
+            ReportManager.logStep(Status.INFO, "Element cache",
+                stats.getSavedRoundTrips() + " findElement round-trips saved (" + stats + ")");
         }
     }
     
@@ -88,61 +171,69 @@ public class ScenarioManager {
         }
         
         String stepName = step.getName() != null ? step.getName() : "Unnamed Step";
-        String stepInfo = String.format("Step %d: %s (%s)", stepIndex + 1, stepName, step.getClass().getSimpleName());
+        // Only describe the step when something will read the description
+        boolean publishStarted = eventPublisher.isInterested(TestExecutionEvent.EventType.STEP_STARTED);
+        String stepInfo = log.isInfoEnabled() || publishStarted ? describeStep(step, stepIndex, stepName) : null;
         
         log.info("Executing {}", stepInfo);
-        eventPublisher.publishEvent(new TestExecutionEvent(
-            TestExecutionEvent.EventType.STEP_STARTED, step, stepIndex, stepInfo));
+        if (publishStarted) {
+            eventPublisher.publishEvent(new TestExecutionEvent(
+                TestExecutionEvent.EventType.STEP_STARTED, step, stepIndex, stepInfo));
+        }
         ReportManager.logStep(Status.INFO, "Started: " + stepName, step.toString());
         
         try {
-            // Validate step configuration
-            validateStep(step);
-            
-            // Execute the step
-            ActionExecutor<TestStep> executor = (ActionExecutor<TestStep>) step.getAction().executor();
+            // Validate step configuration and resolve its shared executor
+            ActionExecutor<TestStep> executor = resolveExecutor(step);
             executor.execute(driver, step);
             
             log.info("Successfully executed {}", stepInfo);
-            eventPublisher.publishEvent(new TestExecutionEvent(
-                TestExecutionEvent.EventType.STEP_COMPLETED, step, stepIndex, "Step executed successfully"));
+            if (eventPublisher.isInterested(TestExecutionEvent.EventType.STEP_COMPLETED)) {
+                eventPublisher.publishEvent(new TestExecutionEvent(
+                    TestExecutionEvent.EventType.STEP_COMPLETED, step, stepIndex, "Step executed successfully"));
+            }
             ReportManager.logStep(Status.PASS, "Completed: " + stepName, "Step executed successfully");
             
         } catch (NoSuchElementException e) {
-            handleStepFailure(step, stepIndex, stepInfo, "Element not found: " + e.getMessage(), e);
+            handleStepFailure(step, stepIndex, "Element not found: " + e.getMessage(), e);
         } catch (ElementClickInterceptedException e) {
-            handleStepFailure(step, stepIndex, stepInfo, "Element click intercepted: " + e.getMessage(), e);
+            handleStepFailure(step, stepIndex, "Element click intercepted: " + e.getMessage(), e);
         } catch (ElementNotInteractableException e) {
-            handleStepFailure(step, stepIndex, stepInfo, "Element not interactable: " + e.getMessage(), e);
+            handleStepFailure(step, stepIndex, "Element not interactable: " + e.getMessage(), e);
         } catch (TimeoutException e) {
-            handleStepFailure(step, stepIndex, stepInfo, "Timeout occurred: " + e.getMessage(), e);
+            handleStepFailure(step, stepIndex, "Timeout occurred: " + e.getMessage(), e);
         } catch (StaleElementReferenceException e) {
-            handleStepFailure(step, stepIndex, stepInfo, "Stale element reference: " + e.getMessage(), e);
+            handleStepFailure(step, stepIndex, "Stale element reference: " + e.getMessage(), e);
         } catch (WebDriverException e) {
-            handleStepFailure(step, stepIndex, stepInfo, "WebDriver error: " + e.getMessage(), e);
+            handleStepFailure(step, stepIndex, "WebDriver error: " + e.getMessage(), e);
         } catch (IllegalArgumentException e) {
-            handleStepFailure(step, stepIndex, stepInfo, "Invalid step configuration: " + e.getMessage(), e);
+            handleStepFailure(step, stepIndex, "Invalid step configuration: " + e.getMessage(), e);
         } catch (IllegalStateException e) {
-            handleStepFailure(step, stepIndex, stepInfo, "Invalid state: " + e.getMessage(), e);
+            handleStepFailure(step, stepIndex, "Invalid state: " + e.getMessage(), e);
         } catch (Exception e) {
-            handleStepFailure(step, stepIndex, stepInfo, "Unexpected error: " + e.getMessage(), e);
+            handleStepFailure(step, stepIndex, "Unexpected error: " + e.getMessage(), e);
         }
     }
     
-    private static void validateStep(TestStep step) {
-        if (step.getAction() == null) {
+    private static ActionExecutor<TestStep> resolveExecutor(TestStep step) {
+        if (!ActionRegistry.supports(step)) {
             throw new IllegalArgumentException("Step action cannot be null");
         }
         
         try {
-            step.getAction().executor();
+            return ActionRegistry.executorFor(step);
         } catch (Exception e) {
             throw new IllegalArgumentException("Failed to get executor for action: " + step.getAction(), e);
         }
     }
     
-    private static void handleStepFailure(TestStep step, int stepIndex, String stepInfo, String errorMessage, Throwable cause) {
-        String fullErrorMessage = String.format("Failed to execute %s: %s", stepInfo, errorMessage);
+    private static String describeStep(TestStep step, int stepIndex, String stepName) {
+        return "Step " + (stepIndex + 1) + ": " + stepName + " (" + step.getClass().getSimpleName() + ")";
+    }
+    
+    private static void handleStepFailure(TestStep step, int stepIndex, String errorMessage, Throwable cause) {
+        String stepName = step.getName() != null ? step.getName() : "Unnamed Step";
+        String fullErrorMessage = String.format("Failed to execute %s: %s", describeStep(step, stepIndex, stepName), errorMessage);
         
         log.error(fullErrorMessage, cause);
         eventPublisher.publishEvent(new TestExecutionEvent(
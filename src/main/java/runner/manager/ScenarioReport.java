@@ -0,0 +1,174 @@
+package runner.manager;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.Status;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Report records of one running scenario. An instance is confined to the thread running the
+ * scenario, so recording takes no locks. For the in-memory Extent report the records are buffered
+ * and the finished tree is published in one step, which keeps nodes of concurrent scenarios from
+ * interleaving. With a report log, each record is appended as it happens, tagged with the test id,
+ * so a crash or a hung scenario keeps what was recorded and memory does not grow with the scenario.
+ */
+public final class ScenarioReport {
+
+    private final long id;
+    private final String name;
+    // Null when the records are buffered for Extent
+    private final ReportLog reportLog;
+    private final List<ReportLog.Entry> entries = new ArrayList<>();
+    // Screenshots still being written, in the order they were taken
+    private final List<PendingScreenshot> pendingScreenshots = new ArrayList<>();
+    private int recordCount;
+    private boolean finished;
+
+    /**
+     * Buffer the scenario's records until it is published
+     */
+    public ScenarioReport(long id, String name) {
+        this(id, name, null);
+    }
+
+    /**
+     * @param reportLog log each record is appended to as it happens, or null to buffer the records
+     */
+    public ScenarioReport(long id, String name, ReportLog reportLog) {
+        this.id = id;
+        this.name = name;
+        this.reportLog = reportLog;
+        add(ReportLog.Type.TEST_START, name, null, null);
+    }
+
+    public void log(Status status, String message) {
+        add(ReportLog.Type.LOG, null, status, message);
+    }
+
+    public void step(Status status, String stepName, String description) {
+        add(ReportLog.Type.STEP, stepName, status, description);
+    }
+
+    public void screenshot(String screenshotName, String path) {
+        add(ReportLog.Type.SCREENSHOT, screenshotName, null, path);
+    }
+
+    /**
+     * Attach a screenshot once its file is written. Buffered records keep its place; a report log
+     * gets it with the first record after the write completes, or at the end of the scenario.
+     */
+    public void screenshot(String screenshotName, CompletableFuture<String> path) {
+        if (finished) {
+            return;
+        }
+        if (reportLog == null) {
+            pendingScreenshots.add(new PendingScreenshot(entries.size(), screenshotName, path));
+            add(ReportLog.Type.SCREENSHOT, screenshotName, null, null);
+        } else {
+            pendingScreenshots.add(new PendingScreenshot(-1, screenshotName, path));
+        }
+    }
+
+    /**
+     * Wait up to the timeout for the screenshots of this scenario to be written
+     */
+    public void awaitScreenshots(long timeoutMillis) {
+        if (pendingScreenshots.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(pendingScreenshots.stream().map(PendingScreenshot::path).toArray(CompletableFuture<?>[]::new))
+                .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Unwritten screenshots are reported as warnings by finish()
+        }
+    }
+
+    /**
+     * Close the scenario; later records are ignored. Screenshots that are not written by now are
+     * reported as warnings.
+     * @return the buffered records of the scenario, from its start to its end; empty when they
+     * were appended to a report log
+     */
+    public List<ReportLog.Entry> finish() {
+        if (!finished) {
+            resolveScreenshots(true);
+            add(ReportLog.Type.TEST_END, null, null, null);
+            finished = true;
+        }
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Add the finished scenario to Extent reports while holding the report's lock once
+     */
+    public void publishTo(ExtentReports extent) {
+        List<ReportLog.Entry> records = finish();
+        synchronized (extent) {
+            ReportLog.replay(records, extent);
+        }
+    }
+
+    /**
+     * Record the outcome of written screenshots; with {@code all}, also of unfinished ones
+     */
+    private void resolveScreenshots(boolean all) {
+        Iterator<PendingScreenshot> pending = pendingScreenshots.iterator();
+        while (pending.hasNext()) {
+            PendingScreenshot screenshot = pending.next();
+            CompletableFuture<String> path = screenshot.path();
+            if (!all && !path.isDone()) {
+                continue;
+            }
+            pending.remove();
+            String file = path.isDone() && !path.isCompletedExceptionally() ? path.join() : null;
+            long time = screenshot.index() >= 0 ? entries.get(screenshot.index()).time() : System.currentTimeMillis();
+            ReportLog.Entry resolved = file != null
+                ? new ReportLog.Entry(time, ReportLog.Type.SCREENSHOT.name(), id, screenshot.name(), null, file)
+                : new ReportLog.Entry(time, ReportLog.Type.LOG.name(), id, null, Status.WARNING.name(),
+                    "Screenshot " + screenshot.name() + " was not saved");
+            if (screenshot.index() >= 0) {
+                entries.set(screenshot.index(), resolved);
+            } else {
+                record(resolved);
+            }
+        }
+    }
+
+    private void add(ReportLog.Type type, String nodeName, Status status, String message) {
+        if (finished) {
+            return;
+        }
+        if (reportLog != null && !pendingScreenshots.isEmpty()) {
+            resolveScreenshots(false);
+        }
+        record(ReportLog.Entry.of(type, id, nodeName, status, message));
+    }
+
+    private void record(ReportLog.Entry entry) {
+        recordCount++;
+        if (reportLog != null) {
+            reportLog.appendAll(List.of(entry));
+        } else {
+            entries.add(entry);
+        }
+    }
+
+    /**
+     * Screenshot being written; index of its reserved record, or -1 when streaming
+     */
+    private record PendingScreenshot(int index, String name, CompletableFuture<String> path) {
+    }
+
+    // Getters
+    public long getId() { return id; }
+    public String getName() { return name; }
+    public int getRecordCount() { return recordCount; }
+}
@@ -0,0 +1,11 @@
+package runner.model.step;
+
+import runner.model.Target;
+
+/**
+ * A step that acts on one element
+ */
+public interface TargetedStep {
+
+    Target getTarget();
+}
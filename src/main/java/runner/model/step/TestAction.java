@@ -1,6 +1,7 @@
 package runner.model.step;
 
 import runner.executor.ActionExecutor;
+import runner.executor.ActionRegistry;
 import runner.executor.alert.*;
 import runner.executor.basic.*;
 import runner.executor.browser.*;
@@ -14,43 +15,43 @@ public enum TestAction {
     // Basic Actions
     NAVIGATE {
         @Override
-        public NavigateActionExecutor executor() {
+        public NavigateActionExecutor createExecutor() {
             return new NavigateActionExecutor();
         }
     },
     CLICK {
         @Override
-        public ClickActionExecutor executor() {
+        public ClickActionExecutor createExecutor() {
             return new ClickActionExecutor();
         }
     },
     SEND_VALUE {
         @Override
-        public SendValueActionExecutor executor() {
+        public SendValueActionExecutor createExecutor() {
             return new SendValueActionExecutor();
         }
     },
     SELECT_OPTION {
         @Override
-        public SelectOptionActionExecutor executor() {
+        public SelectOptionActionExecutor createExecutor() {
             return new SelectOptionActionExecutor();
         }
     },
     ASSERT_TEXT {
         @Override
-        public AssertTextActionExecutor executor() {
+        public AssertTextActionExecutor createExecutor() {
             return new AssertTextActionExecutor();
         }
     },
     SCREENSHOT {
         @Override
-        public ScreenshootActionExecutor executor() {
+        public ScreenshootActionExecutor createExecutor() {
             return new ScreenshootActionExecutor();
         }
     },
     CLEAR {
         @Override
-        public ClearActionExecutor executor() {
+        public ClearActionExecutor createExecutor() {
             return new ClearActionExecutor();
         }
     },
@@ -58,19 +59,19 @@ public enum TestAction {
     // Browser Actions
     EXECUTE_SCRIPT {
         @Override
-        public ExecuteScriptActionExecutor executor() {
+        public ExecuteScriptActionExecutor createExecutor() {
             return new ExecuteScriptActionExecutor();
         }
     },
     SCROLL_TO {
         @Override
-        public ScrollToActionExecutor executor() {
+        public ScrollToActionExecutor createExecutor() {
             return new ScrollToActionExecutor();
         }
     },
     WAIT_FOR_JS {
         @Override
-        public WaitForJsActionExecutor executor() {
+        public WaitForJsActionExecutor createExecutor() {
             return new WaitForJsActionExecutor();
         }
     },
@@ -78,31 +79,31 @@ public enum TestAction {
     // Window Actions
     SWITCH_TO_WINDOW {
         @Override
-        public SwitchToWindowActionExecutor executor() {
+        public SwitchToWindowActionExecutor createExecutor() {
             return new SwitchToWindowActionExecutor();
         }
     },
     CLOSE_WINDOW {
         @Override
-        public CloseWindowActionExecutor executor() {
+        public CloseWindowActionExecutor createExecutor() {
             return new CloseWindowActionExecutor();
         }
     },
     BACK_WINDOW {
         @Override
-        public BackWindowActionExecutor executor() {
+        public BackWindowActionExecutor createExecutor() {
             return new BackWindowActionExecutor();
         }
     },
     FORWARD_WINDOW {
         @Override
-        public ForwardWindowActionExecutor executor() {
+        public ForwardWindowActionExecutor createExecutor() {
             return new ForwardWindowActionExecutor();
         }
     },
     REFRESH_WINDOW {
         @Override
-        public RefreshWindowActionExecutor executor() {
+        public RefreshWindowActionExecutor createExecutor() {
             return new RefreshWindowActionExecutor();
         }
     },
@@ -110,19 +111,19 @@ public enum TestAction {
     // Alert Actions
     ACCEPT_ALERT {
         @Override
-        public AcceptAlertActionExecutor executor() {
+        public AcceptAlertActionExecutor createExecutor() {
             return new AcceptAlertActionExecutor();
         }
     },
     DISMISS_ALERT {
         @Override
-        public DismissAlertActionExecutor executor() {
+        public DismissAlertActionExecutor createExecutor() {
             return new DismissAlertActionExecutor();
         }
     },
     SEND_VALUE_TO_ALERT {
         @Override
-        public SendValueToAlertActionExecutor executor() {
+        public SendValueToAlertActionExecutor createExecutor() {
             return new SendValueToAlertActionExecutor();
         }
     },
@@ -130,25 +131,25 @@ public enum TestAction {
     // Mouse Actions
     HOVER {
         @Override
-        public HoverActionExecutor executor() {
+        public HoverActionExecutor createExecutor() {
             return new HoverActionExecutor();
         }
     },
     RIGHT_CLICK {
         @Override
-        public RightClickActionExecutor executor() {
+        public RightClickActionExecutor createExecutor() {
             return new RightClickActionExecutor();
         }
     },
     DOUBLE_CLICK {
         @Override
-        public DoubleClickActionExecutor executor() {
+        public DoubleClickActionExecutor createExecutor() {
             return new DoubleClickActionExecutor();
         }
     },
     DRAG_AND_DROP {
         @Override
-        public DragAndDropActionExecutor executor() {
+        public DragAndDropActionExecutor createExecutor() {
             return new DragAndDropActionExecutor();
         }
     },
@@ -156,16 +157,28 @@ public enum TestAction {
     // Waiting & Condition Actions
     WAIT {
         @Override
-        public WaitActionExecutor executor() {
+        public WaitActionExecutor createExecutor() {
             return new WaitActionExecutor();
         }
     },
     CONDITION {
         @Override
-        public ConditionActionExecutor executor() {
+        public ConditionActionExecutor createExecutor() {
             return new ConditionActionExecutor();
         }
     };
     
-    public abstract <T extends TestStep> ActionExecutor<T> executor();
+    /**
+     * Create a new executor for this action. Use {@link #executor()} to get the shared instance.
+     */
+    public abstract ActionExecutor<?> createExecutor();
+    
+    /**
+     * Get the shared executor for this action, including executors registered by plugins.
+     * The cast is unchecked but safe: the registry holds an executor for this action's step type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends TestStep> ActionExecutor<T> executor() {
+        return (ActionExecutor<T>) ActionRegistry.get(this);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package runner.model.step;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import lombok.Getter;
@@ -61,5 +62,7 @@ import runner.model.step.window.*;
 @ToString
 public abstract class TestStep {
     private String name;
+    // Plugin actions are not TestAction constants and are dispatched by step type instead
+    @JsonFormat(with = JsonFormat.Feature.READ_UNKNOWN_ENUM_VALUES_AS_NULL)
     private TestAction action;
 }
@@ -3,11 +3,12 @@ package runner.model.step.basic;
 import lombok.Getter;
 import lombok.ToString;
 import runner.model.Target;
+import runner.model.step.TargetedStep;
 import runner.model.step.TestStep;
 
 @Getter
 @ToString(callSuper = true)
-public class AssertTextActionStep extends TestStep {
+public class AssertTextActionStep extends TestStep implements TargetedStep {
     private Target target;
     private String value;
     
@@ -4,12 +4,13 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import runner.model.Target;
+import runner.model.step.TargetedStep;
 import runner.model.step.TestStep;
 
 
 @Getter
 @ToString(callSuper = true)
-public class SendValueActionStep extends TestStep {
+public class SendValueActionStep extends TestStep implements TargetedStep {
     private Target target;
     private String value;
     
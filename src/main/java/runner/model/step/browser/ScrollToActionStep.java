@@ -3,11 +3,12 @@ package runner.model.step.browser;
 import lombok.Getter;
 import lombok.ToString;
 import runner.model.Target;
+import runner.model.step.TargetedStep;
 import runner.model.step.TestStep;
 
 @Getter
 @ToString(callSuper = true)
-public class ScrollToActionStep extends TestStep {
+public class ScrollToActionStep extends TestStep implements TargetedStep {
     private Target target;
     private Integer x;
     private Integer y;
@@ -4,11 +4,12 @@ import lombok.Getter;
 import lombok.ToString;
 import runner.model.Condition;
 import runner.model.Target;
+import runner.model.step.TargetedStep;
 import runner.model.step.TestStep;
 
 @Getter
 @ToString(callSuper = true)
-public class ConditionActionStep extends TestStep {
+public class ConditionActionStep extends TestStep implements TargetedStep {
     private Target target;
     private Condition type;
     private Boolean value;
@@ -3,11 +3,12 @@ package runner.model.step.waiting;
 import lombok.Getter;
 import lombok.ToString;
 import runner.model.Target;
+import runner.model.step.TargetedStep;
 import runner.model.step.TestStep;
 
 @Getter
 @ToString(callSuper = true)
-public class WaitActionStep extends TestStep {
+public class WaitActionStep extends TestStep implements TargetedStep {
     private Target target;
     private Integer timeout;
     private WaitType waitType = WaitType.VISIBLE; // Default to VISIBLE
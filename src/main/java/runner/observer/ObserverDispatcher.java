@@ -0,0 +1,209 @@
+package runner.observer;
+
+import lombok.extern.slf4j.Slf4j;
+import runner.observer.TestExecutionEventPublisher.ObserverQueueStats;
+import runner.observer.TestExecutionEventPublisher.OverflowPolicy;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Delivers events to one observer on its own daemon thread through a bounded ring buffer, so a
+ * slow observer does not add to step latency. When the buffer is full the overflow policy decides
+ * whether the publisher blocks or events are dropped. Progress is also counted per publishing
+ * thread, so a scenario flushing its own events does not wait for other scenarios' backlog.
+ */
+@Slf4j
+class ObserverDispatcher {
+
+    private final TestExecutionObserver observer;
+    private final ArrayBlockingQueue<TestExecutionEvent> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final Thread thread;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    // Keyed by TestExecutionEvent#getThreadId, the thread that published the events
+    private final Map<Long, PublisherProgress> progressByThread = new ConcurrentHashMap<>();
+    private final Object flushMonitor = new Object();
+    private volatile boolean running = true;
+
+    ObserverDispatcher(TestExecutionObserver observer, int capacity,
+                       OverflowPolicy overflowPolicy, int sampleRate) {
+        this.observer = observer;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.thread = new Thread(this::dispatchLoop, "event-dispatcher-" + observer.getName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queue an event for delivery, applying the overflow policy when the buffer is full
+     */
+    void submit(TestExecutionEvent event) {
+        if (!running) {
+            return;
+        }
+        submitted.incrementAndGet();
+        progressByThread.computeIfAbsent(event.getThreadId(), id -> new PublisherProgress()).submitted.incrementAndGet();
+
+        switch (overflowPolicy) {
+            case BLOCK -> enqueueBlocking(event);
+            case DROP_OLDEST -> {
+                while (!queue.offer(event)) {
+                    TestExecutionEvent oldest = queue.poll();
+                    if (oldest != null) {
+                        markDropped(oldest);
+                    }
+                }
+            }
+            case SAMPLE -> {
+                // Under pressure keep every Nth step (both its start and end) plus all scenario and failure events
+                if (queue.size() >= queue.remainingCapacity() && isSampledOut(event)) {
+                    markDropped(event);
+                    return;
+                }
+                enqueueBlocking(event);
+            }
+        }
+        maxQueueDepth.accumulateAndGet(queue.size(), Math::max);
+    }
+
+    /**
+     * Wait until every event the calling thread submitted so far has been delivered or dropped
+     */
+    boolean flush(long timeoutMillis) {
+        long threadId = Thread.currentThread().getId();
+        PublisherProgress progress = progressByThread.get(threadId);
+        if (progress == null) {
+            return true;
+        }
+        boolean flushed = awaitHandled(progress.handled::get, progress.submitted.get(), timeoutMillis);
+        if (flushed) {
+            // Only this thread submits under its id, so nothing can be pending for it now
+            progressByThread.remove(threadId, progress);
+        }
+        return flushed;
+    }
+
+    /**
+     * Wait until every event submitted so far, by any thread, has been delivered or dropped
+     */
+    boolean flushAll(long timeoutMillis) {
+        return awaitHandled(this::handled, submitted.get(), timeoutMillis);
+    }
+
+    private boolean awaitHandled(LongSupplier handled, long target, long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (flushMonitor) {
+            while (handled.getAsLong() < target) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0 || !thread.isAlive()) {
+                    return false;
+                }
+                try {
+                    flushMonitor.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deliver what is queued, then stop the dispatcher thread
+     */
+    void shutdown(long timeoutMillis) {
+        flushAll(timeoutMillis);
+        running = false;
+        thread.interrupt();
+    }
+
+    TestExecutionObserver getObserver() {
+        return observer;
+    }
+
+    ObserverQueueStats getStats() {
+        return new ObserverQueueStats(observer.getName(), queue.size(), maxQueueDepth.get(),
+            delivered.get(), dropped.get());
+    }
+
+    private void enqueueBlocking(TestExecutionEvent event) {
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markDropped(event);
+        }
+    }
+
+    private boolean isSampledOut(TestExecutionEvent event) {
+        return switch (event.getEventType()) {
+            case STEP_STARTED, STEP_COMPLETED, STEP_SKIPPED -> event.getStepIndex() % sampleRate != 0;
+            default -> false;
+        };
+    }
+
+    private long handled() {
+        return delivered.get() + dropped.get();
+    }
+
+    private void markDropped(TestExecutionEvent event) {
+        dropped.incrementAndGet();
+        markHandled(event);
+    }
+
+    private void markHandled(TestExecutionEvent event) {
+        PublisherProgress progress = progressByThread.get(event.getThreadId());
+        if (progress != null) {
+            progress.handled.incrementAndGet();
+        }
+        signalFlushWaiters();
+    }
+
+    private void signalFlushWaiters() {
+        synchronized (flushMonitor) {
+            flushMonitor.notifyAll();
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running || !queue.isEmpty()) {
+            TestExecutionEvent event;
+            try {
+                event = queue.take();
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+                continue;
+            }
+
+            try {
+                observer.onEvent(event);
+            } catch (Exception e) {
+                log.error("Error notifying observer {} about event {}: {}",
+                    observer.getName(), event.getEventType(), e.getMessage(), e);
+            }
+            delivered.incrementAndGet();
+            markHandled(event);
+        }
+    }
+
+    private static final class PublisherProgress {
+        private final AtomicLong submitted = new AtomicLong();
+        private final AtomicLong handled = new AtomicLong();
+    }
+}
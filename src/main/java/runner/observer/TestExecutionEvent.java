@@ -2,13 +2,19 @@ package runner.observer;
 
 import runner.model.step.TestStep;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
- * Represents an event that occurs during test execution
+ * Represents an event that occurs during test execution. Only the monotonic nano time is captured
+ * when the event is created; the wall-clock timestamp is derived from it on request.
  */
 public class TestExecutionEvent {
     
+    private static final Instant BASE_INSTANT = Instant.now();
+    private static final long BASE_NANOS = System.nanoTime();
+    
     public enum EventType {
         SCENARIO_STARTED,
         SCENARIO_COMPLETED,
@@ -24,8 +30,9 @@ public class TestExecutionEvent {
     private final int stepIndex;
     private final String message;
     private final Throwable exception;
-    private final LocalDateTime timestamp;
+    private final long nanoTime;
     private final String threadName;
+    private final long threadId;
     
     public TestExecutionEvent(EventType eventType, TestStep step, int stepIndex, String message, Throwable exception) {
         this.eventType = eventType;
@@ -33,8 +40,9 @@ public class TestExecutionEvent {
         this.stepIndex = stepIndex;
         this.message = message;
         this.exception = exception;
-        this.timestamp = LocalDateTime.now();
+        this.nanoTime = System.nanoTime();
         this.threadName = Thread.currentThread().getName();
+        this.threadId = Thread.currentThread().getId();
     }
     
     public TestExecutionEvent(EventType eventType, String message) {
@@ -51,15 +59,19 @@ public class TestExecutionEvent {
     public int getStepIndex() { return stepIndex; }
     public String getMessage() { return message; }
     public Throwable getException() { return exception; }
-    public LocalDateTime getTimestamp() { return timestamp; }
+    public LocalDateTime getTimestamp() {
+        return LocalDateTime.ofInstant(BASE_INSTANT.plusNanos(nanoTime - BASE_NANOS), ZoneId.systemDefault());
+    }
+    public long getNanoTime() { return nanoTime; }
     public String getThreadName() { return threadName; }
+    public long getThreadId() { return threadId; }
     
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("TestExecutionEvent{")
           .append("type=").append(eventType)
-          .append(", timestamp=").append(timestamp)
+          .append(", timestamp=").append(getTimestamp())
           .append(", thread=").append(threadName);
         
         if (step != null) {
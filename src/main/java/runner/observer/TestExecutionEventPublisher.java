@@ -1,17 +1,92 @@
 package runner.observer;
 
 import lombok.extern.slf4j.Slf4j;
+import runner.config.TestConfiguration;
 
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.List;
 
 /**
- * Event publisher for test execution events using Observer pattern
+ * Event publisher for test execution events using Observer pattern. By default observers are
+ * called on the publishing thread; in async mode each observer that supports it gets a bounded
+ * queue and its own dispatcher thread, and {@link #flush()} waits for queued events.
  */
 @Slf4j
 public class TestExecutionEventPublisher {
     
+    /**
+     * What an async publisher does when an observer's queue is full
+     */
+    public enum OverflowPolicy {
+        // Wait for the observer to catch up
+        BLOCK,
+        // Discard the oldest queued event
+        DROP_OLDEST,
+        // Once the queue is half full, keep only every Nth step; scenario and failure events are kept
+        SAMPLE
+    }
+    
+    private static final TestExecutionEvent.EventType[] EVENT_TYPES = TestExecutionEvent.EventType.values();
+    
     private final List<TestExecutionObserver> observers = new CopyOnWriteArrayList<>();
+    // Snapshots rebuilt when observers change, so publishing neither iterates the list nor allocates
+    private volatile TestExecutionObserver[] observerArray = new TestExecutionObserver[0];
+    private volatile boolean[] interestedTypes = new boolean[EVENT_TYPES.length];
+    private final Map<TestExecutionObserver, ObserverDispatcher> dispatchers = new ConcurrentHashMap<>();
+    private final boolean async;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final long flushTimeoutMillis;
+    
+    /**
+     * Synchronous publisher: observers run on the thread that publishes the event
+     */
+    public TestExecutionEventPublisher() {
+        this.async = false;
+        this.queueCapacity = 0;
+        this.overflowPolicy = OverflowPolicy.BLOCK;
+        this.sampleRate = 1;
+        this.flushTimeoutMillis = 0;
+    }
+    
+    /**
+     * Asynchronous publisher with a bounded queue and dispatcher thread per observer
+     */
+    public TestExecutionEventPublisher(int queueCapacity, OverflowPolicy overflowPolicy, int sampleRate,
+                                       long flushTimeoutMillis) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.async = true;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.flushTimeoutMillis = flushTimeoutMillis;
+    }
+    
+    /**
+     * Create a synchronous or asynchronous publisher from the configuration
+     */
+    public static TestExecutionEventPublisher createConfigured() {
+        TestConfiguration config = TestConfiguration.getInstance();
+        if (!config.isAsyncEventsEnabled()) {
+            return new TestExecutionEventPublisher();
+        }
+        
+        OverflowPolicy policy;
+        try {
+            policy = OverflowPolicy.valueOf(config.getEventOverflowPolicy().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown event overflow policy '{}', using BLOCK", config.getEventOverflowPolicy());
+            policy = OverflowPolicy.BLOCK;
+        }
+        return new TestExecutionEventPublisher(config.getEventQueueCapacity(), policy,
+            config.getEventSampleRate(), config.getEventFlushTimeoutSeconds() * 1000L);
+    }
     
     /**
      * Add an observer to receive test execution events
@@ -24,7 +99,11 @@ public class TestExecutionEventPublisher {
         }
         
         if (!observers.contains(observer)) {
+            if (async && observer.supportsAsyncDelivery()) {
+                dispatchers.put(observer, new ObserverDispatcher(observer, queueCapacity, overflowPolicy, sampleRate));
+            }
             observers.add(observer);
+            refreshSnapshots();
             log.debug("Added observer: {}", observer.getName());
         } else {
             log.debug("Observer {} already registered", observer.getName());
@@ -41,6 +120,11 @@ public class TestExecutionEventPublisher {
         }
         
         if (observers.remove(observer)) {
+            refreshSnapshots();
+            ObserverDispatcher dispatcher = dispatchers.remove(observer);
+            if (dispatcher != null) {
+                dispatcher.shutdown(flushTimeoutMillis);
+            }
             log.debug("Removed observer: {}", observer.getName());
         }
     }
@@ -51,6 +135,13 @@ public class TestExecutionEventPublisher {
     public void clearObservers() {
         int count = observers.size();
         observers.clear();
+        refreshSnapshots();
+        for (TestExecutionObserver observer : new ArrayList<>(dispatchers.keySet())) {
+            ObserverDispatcher dispatcher = dispatchers.remove(observer);
+            if (dispatcher != null) {
+                dispatcher.shutdown(flushTimeoutMillis);
+            }
+        }
         log.debug("Cleared {} observers", count);
     }
     
@@ -64,12 +155,21 @@ public class TestExecutionEventPublisher {
             return;
         }
         
+        if (!interestedTypes[event.getEventType().ordinal()]) {
+            return;
+        }
+        
         log.trace("Publishing event: {}", event);
         
-        for (TestExecutionObserver observer : observers) {
+        for (TestExecutionObserver observer : observerArray) {
             try {
                 if (observer.shouldNotify(event.getEventType())) {
-                    observer.onEvent(event);
+                    ObserverDispatcher dispatcher = async ? dispatchers.get(observer) : null;
+                    if (dispatcher != null) {
+                        dispatcher.submit(event);
+                    } else {
+                        observer.onEvent(event);
+                    }
                 }
             } catch (Exception e) {
                 log.error("Error notifying observer {} about event {}: {}", 
@@ -78,12 +178,59 @@ public class TestExecutionEventPublisher {
         }
     }
     
+    /**
+     * Check if any observer wants events of the given type, so callers can skip building the event
+     * and its message. Interest is taken from {@link TestExecutionObserver#shouldNotify} when observers
+     * are added or removed.
+     * @param eventType The event type to check
+     * @return true if publishing an event of this type would reach an observer
+     */
+    public boolean isInterested(TestExecutionEvent.EventType eventType) {
+        return interestedTypes[eventType.ordinal()];
+    }
+    
+    private synchronized void refreshSnapshots() {
+        TestExecutionObserver[] current = observers.toArray(new TestExecutionObserver[0]);
+        boolean[] interested = new boolean[EVENT_TYPES.length];
+        for (TestExecutionObserver observer : current) {
+            for (TestExecutionEvent.EventType type : EVENT_TYPES) {
+                try {
+                    interested[type.ordinal()] |= observer.shouldNotify(type);
+                } catch (Exception e) {
+                    // Let publishEvent ask again and report the failure
+                    interested[type.ordinal()] = true;
+                }
+            }
+        }
+        observerArray = current;
+        interestedTypes = interested;
+    }
+    
+    /**
+     * Wait until the events published by the calling thread have reached their observers; events of
+     * other threads are not waited for. A no-op for a synchronous publisher.
+     * @return false if an observer did not catch up within the flush timeout
+     */
+    public boolean flush() {
+        boolean flushed = true;
+        for (ObserverDispatcher dispatcher : dispatchers.values()) {
+            if (!dispatcher.flush(flushTimeoutMillis)) {
+                log.warn("Observer {} did not drain its event queue within {}ms",
+                    dispatcher.getObserver().getName(), flushTimeoutMillis);
+                flushed = false;
+            }
+        }
+        return flushed;
+    }
+    
     /**
      * Convenience method to publish scenario started event
      * @param message The message describing the scenario
      */
     public void publishScenarioStarted(String message) {
-        publishEvent(new TestExecutionEvent(TestExecutionEvent.EventType.SCENARIO_STARTED, message));
+        if (isInterested(TestExecutionEvent.EventType.SCENARIO_STARTED)) {
+            publishEvent(new TestExecutionEvent(TestExecutionEvent.EventType.SCENARIO_STARTED, message));
+        }
     }
     
     /**
@@ -91,7 +238,9 @@ public class TestExecutionEventPublisher {
      * @param message The message describing the completion
      */
     public void publishScenarioCompleted(String message) {
-        publishEvent(new TestExecutionEvent(TestExecutionEvent.EventType.SCENARIO_COMPLETED, message));
+        if (isInterested(TestExecutionEvent.EventType.SCENARIO_COMPLETED)) {
+            publishEvent(new TestExecutionEvent(TestExecutionEvent.EventType.SCENARIO_COMPLETED, message));
+        }
     }
     
     /**
@@ -100,7 +249,9 @@ public class TestExecutionEventPublisher {
      * @param exception The exception that caused the failure
      */
     public void publishScenarioFailed(String message, Throwable exception) {
-        publishEvent(new TestExecutionEvent(TestExecutionEvent.EventType.SCENARIO_FAILED, null, -1, message, exception));
+        if (isInterested(TestExecutionEvent.EventType.SCENARIO_FAILED)) {
+            publishEvent(new TestExecutionEvent(TestExecutionEvent.EventType.SCENARIO_FAILED, null, -1, message, exception));
+        }
     }
     
     /**
@@ -118,4 +269,68 @@ public class TestExecutionEventPublisher {
     public boolean hasObservers() {
         return !observers.isEmpty();
     }
-}
\ No newline at end of file
+    
+    /**
+     * Check if observers are notified on dispatcher threads
+     * @return true for an asynchronous publisher
+     */
+    public boolean isAsync() {
+        return async;
+    }
+    
+    /**
+     * Get the number of events waiting in observer queues
+     * @return Total queue depth
+     */
+    public int getQueueDepth() {
+        return dispatchers.values().stream().mapToInt(dispatcher -> dispatcher.getStats().getQueueDepth()).sum();
+    }
+    
+    /**
+     * Get the number of events discarded by the overflow policy
+     * @return Total dropped events
+     */
+    public long getDroppedEvents() {
+        return dispatchers.values().stream().mapToLong(dispatcher -> dispatcher.getStats().getDropped()).sum();
+    }
+    
+    /**
+     * Get queue statistics of every asynchronously notified observer
+     * @return One entry per observer queue
+     */
+    public List<ObserverQueueStats> getQueueStats() {
+        return dispatchers.values().stream().map(ObserverDispatcher::getStats).toList();
+    }
+    
+    /**
+     * Immutable queue statistics of one observer
+     */
+    public static class ObserverQueueStats {
+        private final String observerName;
+        private final int queueDepth;
+        private final int maxQueueDepth;
+        private final long delivered;
+        private final long dropped;
+        
+        public ObserverQueueStats(String observerName, int queueDepth, int maxQueueDepth, long delivered, long dropped) {
+            this.observerName = observerName;
+            this.queueDepth = queueDepth;
+            this.maxQueueDepth = maxQueueDepth;
+            this.delivered = delivered;
+            this.dropped = dropped;
+        }
+        
+        // Getters
+        public String getObserverName() { return observerName; }
+        public int getQueueDepth() { return queueDepth; }
+        public int getMaxQueueDepth() { return maxQueueDepth; }
+        public long getDelivered() { return delivered; }
+        public long getDropped() { return dropped; }
+        
+        @Override
+        public String toString() {
+            return String.format("%s: %d queued (max %d), %d delivered, %d dropped",
+                observerName, queueDepth, maxQueueDepth, delivered, dropped);
+        }
+    }
+}
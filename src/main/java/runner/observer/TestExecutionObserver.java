@@ -27,4 +27,12 @@ public interface TestExecutionObserver {
     default boolean shouldNotify(TestExecutionEvent.EventType eventType) {
         return true; // By default, observe all events
     }
-}
\ No newline at end of file
+    
+    /**
+     * Check if events may be delivered on a dispatcher thread instead of the publishing thread
+     * @return false for observers that depend on thread-local state of the executing scenario
+     */
+    default boolean supportsAsyncDelivery() {
+        return true;
+    }
+}
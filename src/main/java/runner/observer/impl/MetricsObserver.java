@@ -1,20 +1,44 @@
 package runner.observer.impl;
 
 import lombok.extern.slf4j.Slf4j;
+import runner.config.TestConfiguration;
+import runner.model.Target;
+import runner.model.step.TargetedStep;
+import runner.model.step.TestStep;
 import runner.observer.TestExecutionEvent;
 import runner.observer.TestExecutionObserver;
+import runner.util.LatencyHistogram;
+import runner.util.LatencyHistogram.LatencyStats;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Observer that collects metrics about test execution
+ * Observer that collects metrics about test execution. Step and scenario start times are kept per
+ * executing thread, so concurrent scenarios do not overwrite each other, and step durations are
+ * recorded in latency histograms keyed by action, target locator and scenario. Each dimension
+ * holds at most {@code maxKeys} histograms; steps of further keys are recorded under
+ * {@link #OTHER_KEY}.
  */
 @Slf4j
 public class MetricsObserver implements TestExecutionObserver {
     
+    /** Key of the histogram that collects the steps of keys beyond the limit */
+    public static final String OTHER_KEY = "(other)";
+    
+    private final int maxKeys;
+    
     private final AtomicInteger scenariosStarted = new AtomicInteger(0);
     private final AtomicInteger scenariosCompleted = new AtomicInteger(0);
     private final AtomicInteger scenariosFailed = new AtomicInteger(0);
@@ -24,44 +48,62 @@ public class MetricsObserver implements TestExecutionObserver {
     private final AtomicInteger stepsSkipped = new AtomicInteger(0);
     private final AtomicLong totalExecutionTime = new AtomicLong(0);
     
-    private LocalDateTime scenarioStartTime;
-    private LocalDateTime stepStartTime;
+    // Keyed by the id of the thread that published the events
+    private final Map<Long, ThreadTiming> timings = new ConcurrentHashMap<>();
+    
+    private final LatencyHistogram stepLatency = new LatencyHistogram();
+    private final Map<String, LatencyHistogram> latencyByAction = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> latencyByTarget = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> latencyByScenario = new ConcurrentHashMap<>();
+    
+    public MetricsObserver() {
+        this(TestConfiguration.getInstance().getStepLatencyMaxKeys());
+    }
+    
+    /**
+     * @param maxKeys histograms kept per dimension (action, target, scenario), at least 1
+     */
+    public MetricsObserver(int maxKeys) {
+        this.maxKeys = Math.max(1, maxKeys);
+    }
     
     @Override
     public void onEvent(TestExecutionEvent event) {
         switch (event.getEventType()) {
             case SCENARIO_STARTED -> {
                 scenariosStarted.incrementAndGet();
-                scenarioStartTime = event.getTimestamp();
+                ThreadTiming timing = timingFor(event);
+                timing.scenario = event.getMessage() != null ? event.getMessage() : "Thread " + event.getThreadName();
+                timing.scenarioStartNanos = event.getNanoTime();
                 log.debug("Scenario started. Total scenarios started: {}", scenariosStarted.get());
             }
             case SCENARIO_COMPLETED -> {
                 scenariosCompleted.incrementAndGet();
-                if (scenarioStartTime != null) {
-                    long duration = Duration.between(scenarioStartTime, event.getTimestamp()).toMillis();
+                Long duration = scenarioDuration(event);
+                if (duration != null) {
                     totalExecutionTime.addAndGet(duration);
                     log.debug("Scenario completed in {}ms. Total completed: {}", duration, scenariosCompleted.get());
                 }
             }
             case SCENARIO_FAILED -> {
                 scenariosFailed.incrementAndGet();
-                if (scenarioStartTime != null) {
-                    long duration = Duration.between(scenarioStartTime, event.getTimestamp()).toMillis();
+                Long duration = scenarioDuration(event);
+                if (duration != null) {
                     totalExecutionTime.addAndGet(duration);
                     log.debug("Scenario failed after {}ms. Total failed: {}", duration, scenariosFailed.get());
                 }
             }
             case STEP_STARTED -> {
                 stepsStarted.incrementAndGet();
-                stepStartTime = event.getTimestamp();
+                timingFor(event).stepStartNanos = event.getNanoTime();
             }
             case STEP_COMPLETED -> {
                 stepsCompleted.incrementAndGet();
-                logStepDuration(event, "completed");
+                recordStepDuration(event, "completed");
             }
             case STEP_FAILED -> {
                 stepsFailed.incrementAndGet();
-                logStepDuration(event, "failed");
+                recordStepDuration(event, "failed");
             }
             case STEP_SKIPPED -> {
                 stepsSkipped.incrementAndGet();
@@ -69,13 +111,63 @@ public class MetricsObserver implements TestExecutionObserver {
         }
     }
     
-    private void logStepDuration(TestExecutionEvent event, String status) {
-        if (stepStartTime != null) {
-            long duration = Duration.between(stepStartTime, event.getTimestamp()).toMillis();
-            if (event.getStep() != null) {
-                log.trace("Step {} {} in {}ms", event.getStepIndex() + 1, status, duration);
+    private ThreadTiming timingFor(TestExecutionEvent event) {
+        return timings.computeIfAbsent(event.getThreadId(), id -> new ThreadTiming());
+    }
+    
+    private Long scenarioDuration(TestExecutionEvent event) {
+        ThreadTiming timing = timings.remove(event.getThreadId());
+        if (timing == null || timing.scenarioStartNanos == 0) {
+            return null;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(event.getNanoTime() - timing.scenarioStartNanos);
+    }
+    
+    private void recordStepDuration(TestExecutionEvent event, String status) {
+        ThreadTiming timing = timings.get(event.getThreadId());
+        if (timing == null || timing.stepStartNanos == 0) {
+            return;
+        }
+        long nanos = event.getNanoTime() - timing.stepStartNanos;
+        timing.stepStartNanos = 0;
+        
+        stepLatency.recordNanos(nanos);
+        TestStep step = event.getStep();
+        if (step != null) {
+            histogram(latencyByAction, actionKey(step)).recordNanos(nanos);
+            String target = targetKey(step);
+            if (target != null) {
+                histogram(latencyByTarget, target).recordNanos(nanos);
             }
+            log.trace("Step {} {} in {}ms", event.getStepIndex() + 1, status, TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+        if (timing.scenario != null) {
+            histogram(latencyByScenario, timing.scenario).recordNanos(nanos);
+        }
+    }
+    
+    private LatencyHistogram histogram(Map<String, LatencyHistogram> histograms, String key) {
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram != null) {
+            return histogram;
+        }
+        // The last slot is kept for the overflow histogram; racing threads may overshoot by a few keys
+        if (histograms.size() >= maxKeys - 1) {
+            key = OTHER_KEY;
         }
+        return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+    
+    private static String actionKey(TestStep step) {
+        return step.getAction() != null ? step.getAction().name() : step.getClass().getSimpleName();
+    }
+    
+    private static String targetKey(TestStep step) {
+        if (!(step instanceof TargetedStep targeted)) {
+            return null;
+        }
+        Target target = targeted.getTarget();
+        return target != null ? target.getBy() + "=" + target.getValue() : null;
     }
     
     /**
@@ -90,10 +182,54 @@ public class MetricsObserver implements TestExecutionObserver {
             stepsCompleted.get(),
             stepsFailed.get(),
             stepsSkipped.get(),
-            totalExecutionTime.get()
+            totalExecutionTime.get(),
+            stepLatency.getStats(),
+            summarize(latencyByAction),
+            summarize(latencyByTarget),
+            summarize(latencyByScenario)
         );
     }
     
+    /**
+     * Write the step latency histograms as CSV, slowest keys (by total time) first
+     */
+    public void exportLatency(Path file) throws IOException {
+        ExecutionMetrics metrics = getMetrics();
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write("dimension,key,count,p50_ms,p95_ms,p99_ms,max_ms,total_ms\n");
+            writeLatencyRow(writer, "all", "all", metrics.getStepLatency());
+            for (Map.Entry<String, LatencyStats> entry : metrics.getLatencyByAction().entrySet()) {
+                writeLatencyRow(writer, "action", entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<String, LatencyStats> entry : metrics.getLatencyByTarget().entrySet()) {
+                writeLatencyRow(writer, "target", entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<String, LatencyStats> entry : metrics.getLatencyByScenario().entrySet()) {
+                writeLatencyRow(writer, "scenario", entry.getKey(), entry.getValue());
+            }
+        }
+        log.debug("Step latency written to {}", file);
+    }
+    
+    private static void writeLatencyRow(Writer writer, String dimension, String key, LatencyStats stats) throws IOException {
+        writer.write(String.format(Locale.ROOT, "%s,\"%s\",%d,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+            dimension, key.replace("\"", "\"\""), stats.getCount(),
+            stats.getP50Micros() / 1000.0, stats.getP95Micros() / 1000.0, stats.getP99Micros() / 1000.0,
+            stats.getMaxMicros() / 1000.0, stats.getTotalMicros() / 1000.0));
+    }
+    
+    private static Map<String, LatencyStats> summarize(Map<String, LatencyHistogram> histograms) {
+        Map<String, LatencyStats> summaries = new LinkedHashMap<>();
+        histograms.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().getStats()))
+            .sorted(Comparator.comparingLong((Map.Entry<String, LatencyStats> entry) -> entry.getValue().getTotalMicros()).reversed())
+            .forEach(entry -> summaries.put(entry.getKey(), entry.getValue()));
+        return summaries;
+    }
+    
     /**
      * Reset all metrics
      */
@@ -106,6 +242,11 @@ public class MetricsObserver implements TestExecutionObserver {
         stepsFailed.set(0);
         stepsSkipped.set(0);
         totalExecutionTime.set(0);
+        timings.clear();
+        stepLatency.reset();
+        latencyByAction.clear();
+        latencyByTarget.clear();
+        latencyByScenario.clear();
         log.debug("Metrics reset");
     }
     
@@ -114,6 +255,15 @@ public class MetricsObserver implements TestExecutionObserver {
         return "MetricsObserver";
     }
     
+    /**
+     * Start times of the scenario and step running on one thread; only that thread's events touch it
+     */
+    private static final class ThreadTiming {
+        private String scenario;
+        private long scenarioStartNanos;
+        private long stepStartNanos;
+    }
+    
     /**
      * Immutable metrics data
      */
@@ -126,10 +276,24 @@ public class MetricsObserver implements TestExecutionObserver {
         private final int stepsFailed;
         private final int stepsSkipped;
         private final long totalExecutionTimeMs;
+        private final LatencyStats stepLatency;
+        private final Map<String, LatencyStats> latencyByAction;
+        private final Map<String, LatencyStats> latencyByTarget;
+        private final Map<String, LatencyStats> latencyByScenario;
         
         public ExecutionMetrics(int scenariosStarted, int scenariosCompleted, int scenariosFailed,
                               int stepsStarted, int stepsCompleted, int stepsFailed, int stepsSkipped,
                               long totalExecutionTimeMs) {
+            this(scenariosStarted, scenariosCompleted, scenariosFailed, stepsStarted, stepsCompleted, stepsFailed,
+                stepsSkipped, totalExecutionTimeMs, new LatencyHistogram().getStats(), Map.of(), Map.of(), Map.of());
+        }
+        
+        public ExecutionMetrics(int scenariosStarted, int scenariosCompleted, int scenariosFailed,
+                              int stepsStarted, int stepsCompleted, int stepsFailed, int stepsSkipped,
+                              long totalExecutionTimeMs, LatencyStats stepLatency,
+                              Map<String, LatencyStats> latencyByAction,
+                              Map<String, LatencyStats> latencyByTarget,
+                              Map<String, LatencyStats> latencyByScenario) {
             this.scenariosStarted = scenariosStarted;
             this.scenariosCompleted = scenariosCompleted;
             this.scenariosFailed = scenariosFailed;
@@ -138,6 +302,10 @@ public class MetricsObserver implements TestExecutionObserver {
             this.stepsFailed = stepsFailed;
             this.stepsSkipped = stepsSkipped;
             this.totalExecutionTimeMs = totalExecutionTimeMs;
+            this.stepLatency = stepLatency;
+            this.latencyByAction = Collections.unmodifiableMap(latencyByAction);
+            this.latencyByTarget = Collections.unmodifiableMap(latencyByTarget);
+            this.latencyByScenario = Collections.unmodifiableMap(latencyByScenario);
         }
         
         // Getters
@@ -149,6 +317,10 @@ public class MetricsObserver implements TestExecutionObserver {
         public int getStepsFailed() { return stepsFailed; }
         public int getStepsSkipped() { return stepsSkipped; }
         public long getTotalExecutionTimeMs() { return totalExecutionTimeMs; }
+        public LatencyStats getStepLatency() { return stepLatency; }
+        public Map<String, LatencyStats> getLatencyByAction() { return latencyByAction; }
+        public Map<String, LatencyStats> getLatencyByTarget() { return latencyByTarget; }
+        public Map<String, LatencyStats> getLatencyByScenario() { return latencyByScenario; }
         
         public double getScenarioSuccessRate() {
             int total = scenariosCompleted + scenariosFailed;
@@ -165,10 +337,10 @@ public class MetricsObserver implements TestExecutionObserver {
             return String.format(
                 "ExecutionMetrics{scenarios: %d started, %d completed, %d failed (%.1f%% success), " +
                 "steps: %d started, %d completed, %d failed, %d skipped (%.1f%% success), " +
-                "total time: %dms}",
+                "total time: %dms, step latency: %s}",
                 scenariosStarted, scenariosCompleted, scenariosFailed, getScenarioSuccessRate(),
                 stepsStarted, stepsCompleted, stepsFailed, stepsSkipped, getStepSuccessRate(),
-                totalExecutionTimeMs
+                totalExecutionTimeMs, stepLatency
             );
         }
     }
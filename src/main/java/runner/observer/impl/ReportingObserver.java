@@ -82,4 +82,10 @@ public class ReportingObserver implements TestExecutionObserver {
     public String getName() {
         return "ReportingObserver";
     }
+    
+    @Override
+    public boolean supportsAsyncDelivery() {
+        // ReportManager logs to the ExtentTest bound to the scenario's thread
+        return false;
+    }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import runner.validation.ValidationChainBuilder;
 import runner.validation.ValidationHandler;
 import runner.validation.ValidationResult;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -69,28 +70,12 @@ public class ExecutionContext {
         }
         
         // Validate WebDriver first
-        if (webDriverValidator != null) {
-            ValidationResult driverResult = webDriverValidator.handle(driver);
-            if (driverResult.isInvalid()) {
-                throw new IllegalArgumentException("WebDriver validation failed: " + driverResult.getErrorsAsString());
-            }
-            if (driverResult.hasWarnings()) {
-                log.warn("WebDriver validation warnings: {}", driverResult.getWarningsAsString());
-            }
-        }
+        validateDriver(driver);
         
         // Validate each step if validator is set
         if (stepValidator != null && steps != null) {
             for (int i = 0; i < steps.size(); i++) {
-                TestStep step = steps.get(i);
-                ValidationResult stepResult = stepValidator.handle(step);
-                if (stepResult.isInvalid()) {
-                    throw new IllegalArgumentException(
-                        String.format("Step %d validation failed: %s", i + 1, stepResult.getErrorsAsString()));
-                }
-                if (stepResult.hasWarnings()) {
-                    log.warn("Step {} validation warnings: {}", i + 1, stepResult.getWarningsAsString());
-                }
+                validateStep(steps.get(i), i);
             }
         }
         
@@ -105,6 +90,68 @@ public class ExecutionContext {
         strategy.execute(driver, steps);
     }
     
+    /**
+     * Execute steps as they are read. Each step is validated just before it runs instead of
+     * validating the whole scenario up front.
+     */
+    public void executeStreaming(WebDriver driver, Iterator<TestStep> steps) throws Exception {
+        if (strategy == null) {
+            throw new IllegalStateException("No execution strategy set");
+        }
+        if (steps == null) {
+            throw new IllegalArgumentException("Steps cannot be null");
+        }
+        
+        validateDriver(driver);
+        
+        log.info("Streaming steps using strategy: {} (per-step validation)", strategy.getStrategyName());
+        
+        strategy.executeStreaming(driver, new Iterator<>() {
+            private int index;
+            
+            @Override
+            public boolean hasNext() {
+                return steps.hasNext();
+            }
+            
+            @Override
+            public TestStep next() {
+                TestStep step = steps.next();
+                validateStep(step, index++);
+                return step;
+            }
+        });
+    }
+    
+    private void validateDriver(WebDriver driver) {
+        if (webDriverValidator == null) {
+            return;
+        }
+        
+        ValidationResult driverResult = webDriverValidator.handle(driver);
+        if (driverResult.isInvalid()) {
+            throw new IllegalArgumentException("WebDriver validation failed: " + driverResult.getErrorsAsString());
+        }
+        if (driverResult.hasWarnings()) {
+            log.warn("WebDriver validation warnings: {}", driverResult.getWarningsAsString());
+        }
+    }
+    
+    private void validateStep(TestStep step, int index) {
+        if (stepValidator == null) {
+            return;
+        }
+        
+        ValidationResult stepResult = stepValidator.handle(step);
+        if (stepResult.isInvalid()) {
+            throw new IllegalArgumentException(
+                String.format("Step %d validation failed: %s", index + 1, stepResult.getErrorsAsString()));
+        }
+        if (stepResult.hasWarnings()) {
+            log.warn("Step {} validation warnings: {}", index + 1, stepResult.getWarningsAsString());
+        }
+    }
+    
     /**
      * Create default strategy based on configuration
      */
@@ -3,6 +3,8 @@ package runner.strategy;
 import org.openqa.selenium.WebDriver;
 import runner.model.step.TestStep;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -18,6 +20,19 @@ public interface ExecutionStrategy {
      */
     void execute(WebDriver driver, List<TestStep> steps) throws Exception;
     
+    /**
+     * Execute steps as they are produced by the iterator. The default implementation collects all
+     * steps first; strategies that can run a step before the next one is read should override it.
+     * @param driver The WebDriver instance
+     * @param steps The test steps, read lazily
+     * @throws Exception if execution fails
+     */
+    default void executeStreaming(WebDriver driver, Iterator<TestStep> steps) throws Exception {
+        List<TestStep> collected = new ArrayList<>();
+        steps.forEachRemaining(collected::add);
+        execute(driver, collected);
+    }
+    
     /**
      * Get the name of this execution strategy
      * @return Strategy name
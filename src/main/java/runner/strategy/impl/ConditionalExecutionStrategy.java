@@ -49,9 +49,11 @@ public class ConditionalExecutionStrategy implements ExecutionStrategy {
                     log.info("Skipping step: {} ({})", stepName, step.getClass().getSimpleName());
                     
                     // Publish step skipped event
-                    int stepIndex = steps.indexOf(step);
-                    ScenarioManager.getEventPublisher().publishEvent(new TestExecutionEvent(
-                        TestExecutionEvent.EventType.STEP_SKIPPED, step, stepIndex, "Step skipped by conditional strategy"));
+                    if (ScenarioManager.getEventPublisher().isInterested(TestExecutionEvent.EventType.STEP_SKIPPED)) {
+                        int stepIndex = steps.indexOf(step);
+                        ScenarioManager.getEventPublisher().publishEvent(new TestExecutionEvent(
+                            TestExecutionEvent.EventType.STEP_SKIPPED, step, stepIndex, "Step skipped by conditional strategy"));
+                    }
                 }
                 return shouldExecute;
             })
@@ -7,6 +7,7 @@ import runner.command.StepExecutionCommand;
 import runner.model.step.TestStep;
 import runner.strategy.ExecutionStrategy;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -90,6 +91,52 @@ public class SequentialExecutionStrategy implements ExecutionStrategy {
         log.info("Sequential execution completed successfully for {} steps", steps.size());
     }
     
+    /**
+     * Execute each step as soon as it is read, keeping only the current step in memory
+     */
+    @Override
+    public void executeStreaming(WebDriver driver, Iterator<TestStep> steps) throws Exception {
+        if (driver == null) {
+            throw new IllegalArgumentException("WebDriver cannot be null");
+        }
+        
+        log.info("Streaming steps sequentially using Command pattern (stopOnFirstFailure: {})", stopOnFirstFailure);
+        
+        CommandInvoker invoker = new CommandInvoker();
+        Exception firstException = null;
+        int failedSteps = 0;
+        int index = 0;
+        
+        for (; steps.hasNext(); index++) {
+            StepExecutionCommand command = new StepExecutionCommand(driver, steps.next(), index);
+            try {
+                invoker.executeCommand(command);
+            } catch (Exception e) {
+                if (stopOnFirstFailure) {
+                    log.error("Failed to execute streamed step {}: {}", index + 1, e.getMessage());
+                    throw new CommandInvoker.CommandExecutionException(
+                        String.format("Command execution failed at position %d", index + 1), e, command, index);
+                }
+                
+                failedSteps++;
+                log.error("Step {} failed: {}", index + 1, e.getMessage());
+                if (firstException == null) {
+                    firstException = e;
+                }
+                log.info("Continuing with next step (stopOnFirstFailure=false)");
+            }
+        }
+        
+        if (firstException != null) {
+            log.error("Execution completed with {} failed steps out of {} (stopOnFirstFailure=false)", 
+                failedSteps, index);
+            throw new RuntimeException(String.format(
+                "Sequential execution completed with %d failed steps out of %d total steps. First failure: %s",
+                failedSteps, index, firstException.getMessage()), firstException);
+        }
+        
+        log.info("Sequential streaming execution completed successfully for {} steps", index);
+    }
     
     @Override
     public String getStrategyName() {
@@ -0,0 +1,252 @@
+package runner.util;
+
+import lombok.extern.slf4j.Slf4j;
+import runner.config.ConfigSnapshot;
+import runner.config.TestConfiguration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Poll schedule for waits. The first re-check comes after a few milliseconds and the interval
+ * then doubles, with jitter, up to a cap. The policy learns how long waits on each key (usually
+ * a locator) typically take: a wait that usually resolves after several seconds sleeps until
+ * shortly before that point instead of polling all the way there.
+ */
+@Slf4j
+public final class AdaptivePollPolicy {
+
+    /** Weight of the newest observation in the learned typical wait time */
+    private static final double LEARNING_RATE = 0.25;
+    private static final double JITTER = 0.2;
+    /** Sleep straight to this fraction of the typical wait time */
+    private static final double SKIP_AHEAD_FRACTION = 0.8;
+    /** Typical waits shorter than this are polled from the start */
+    private static final long SKIP_AHEAD_THRESHOLD_MILLIS = 200;
+    /** WebDriverWait's fixed interval, used when adaptive polling is disabled */
+    private static final long FIXED_INTERVAL_MILLIS = 500;
+
+    private static final Map<String, Long> typicalWaitMillis = new ConcurrentHashMap<>();
+    private static final List<WaitListener> listeners = new CopyOnWriteArrayList<>();
+
+    private static final LongAdder waits = new LongAdder();
+    private static final LongAdder polls = new LongAdder();
+    private static final LongAdder timeouts = new LongAdder();
+    private static final LongAccumulator maxPolls = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Called when a wait completes
+     */
+    @FunctionalInterface
+    public interface WaitListener {
+        void onWaitCompleted(String key, int polls, long elapsedMillis, boolean satisfied);
+    }
+
+    private AdaptivePollPolicy() {
+    }
+
+    /**
+     * Start tracking one wait
+     *
+     * @param key what is waited for, e.g. a locator; null waits are not learned from
+     * @param maxIntervalMillis upper bound for the interval between polls
+     */
+    public static Tracker start(String key, long maxIntervalMillis) {
+        ConfigSnapshot config = TestConfiguration.current();
+        if (!config.adaptivePollingEnabled()) {
+            return new Tracker(key, maxIntervalMillis, maxIntervalMillis, false);
+        }
+        long initial = Math.min(config.pollInitialMillis(), maxIntervalMillis);
+        return new Tracker(key, initial, maxIntervalMillis, true);
+    }
+
+    /**
+     * Start tracking one wait with the configured maximum interval
+     */
+    public static Tracker start(String key) {
+        ConfigSnapshot config = TestConfiguration.current();
+        return start(key, config.adaptivePollingEnabled() ? config.pollMaxMillis() : FIXED_INTERVAL_MILLIS);
+    }
+
+    public static void addListener(WaitListener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(WaitListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Learned typical wait time for a key, or -1 when there is no history
+     */
+    public static long getTypicalWaitMillis(String key) {
+        Long typical = key != null ? typicalWaitMillis.get(key) : null;
+        return typical != null ? typical : -1;
+    }
+
+    /**
+     * Forget the learned wait times and reset the counters
+     */
+    public static void reset() {
+        typicalWaitMillis.clear();
+        waits.reset();
+        polls.reset();
+        timeouts.reset();
+        maxPolls.reset();
+    }
+
+    public static PollStats getStats() {
+        return new PollStats(waits.sum(), polls.sum(), timeouts.sum(), maxPolls.get());
+    }
+
+    private static void record(String key, int pollCount, long elapsedMillis, boolean satisfied) {
+        waits.increment();
+        polls.add(pollCount);
+        maxPolls.accumulate(pollCount);
+        if (!satisfied) {
+            timeouts.increment();
+        } else if (key != null) {
+            typicalWaitMillis.merge(key, elapsedMillis,
+                (previous, latest) -> Math.round(previous + LEARNING_RATE * (latest - previous)));
+        }
+
+        log.trace("Wait on {} {} after {} polls in {}ms", key, satisfied ? "satisfied" : "timed out", pollCount, elapsedMillis);
+        for (WaitListener listener : listeners) {
+            listener.onWaitCompleted(key, pollCount, elapsedMillis, satisfied);
+        }
+    }
+
+    /**
+     * Poll schedule and poll count of a single wait; not thread-safe
+     */
+    public static final class Tracker {
+        private final String key;
+        private final long initialIntervalMillis;
+        private final long maxIntervalMillis;
+        private final boolean adaptive;
+        private final long typicalMillis;
+
+        private long startNanos;
+        private long intervalMillis;
+        private int polls;
+        private boolean skippedAhead;
+        private boolean completed;
+
+        private Tracker(String key, long initialIntervalMillis, long maxIntervalMillis, boolean adaptive) {
+            this.key = key;
+            this.initialIntervalMillis = Math.max(1, initialIntervalMillis);
+            this.maxIntervalMillis = Math.max(1, maxIntervalMillis);
+            this.adaptive = adaptive;
+            this.typicalMillis = adaptive ? getTypicalWaitMillis(key) : -1;
+            restart();
+        }
+
+        /**
+         * Reset the schedule for another wait on the same key
+         */
+        public void restart() {
+            startNanos = System.nanoTime();
+            intervalMillis = initialIntervalMillis;
+            polls = 0;
+            skippedAhead = false;
+            completed = false;
+        }
+
+        /**
+         * Count one evaluation of the wait condition
+         */
+        public void polled() {
+            polls++;
+        }
+
+        public int getPolls() {
+            return polls;
+        }
+
+        public long getElapsedMillis() {
+            return (System.nanoTime() - startNanos) / 1_000_000;
+        }
+
+        /**
+         * Delay before the next poll
+         */
+        public long nextDelayMillis() {
+            if (!adaptive) {
+                return maxIntervalMillis;
+            }
+
+            long elapsed = getElapsedMillis();
+            if (!skippedAhead && typicalMillis >= SKIP_AHEAD_THRESHOLD_MILLIS) {
+                skippedAhead = true;
+                long skipTo = Math.round(typicalMillis * SKIP_AHEAD_FRACTION);
+                if (skipTo > elapsed + intervalMillis) {
+                    return skipTo - elapsed;
+                }
+            }
+
+            long delay = intervalMillis;
+            intervalMillis = Math.min(intervalMillis * 2, maxIntervalMillis);
+            double jitter = 1 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+            return Math.max(1, Math.round(delay * jitter));
+        }
+
+        /**
+         * Sleep until the next poll, but not past the deadline
+         */
+        public void sleep(long remainingMillis) throws InterruptedException {
+            long delay = Math.min(nextDelayMillis(), remainingMillis);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+        }
+
+        /**
+         * Record the outcome; only the first call per wait counts
+         */
+        public void complete(boolean satisfied) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            record(key, polls, getElapsedMillis(), satisfied);
+        }
+    }
+
+    /**
+     * Polling statistics across all waits
+     */
+    public static class PollStats {
+        private final long waits;
+        private final long polls;
+        private final long timeouts;
+        private final long maxPolls;
+
+        public PollStats(long waits, long polls, long timeouts, long maxPolls) {
+            this.waits = waits;
+            this.polls = polls;
+            this.timeouts = timeouts;
+            this.maxPolls = maxPolls;
+        }
+
+        // Getters
+        public long getWaits() { return waits; }
+        public long getPolls() { return polls; }
+        public long getTimeouts() { return timeouts; }
+        public long getMaxPolls() { return maxPolls; }
+
+        public double getAveragePollsPerWait() {
+            return waits == 0 ? 0.0 : (double) polls / waits;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PollStats{waits=%d, polls=%d, avgPollsPerWait=%.1f, maxPolls=%d, timeouts=%d}",
+                waits, polls, getAveragePollsPerWait(), maxPolls, timeouts);
+        }
+    }
+}
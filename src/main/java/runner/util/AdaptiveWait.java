@@ -0,0 +1,93 @@
+package runner.util;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * WebDriverWait whose poll interval follows {@link AdaptivePollPolicy} instead of a fixed 500 ms.
+ * An explicit {@link #pollingEvery(Duration)} switches back to that fixed interval, and
+ * {@link #withTimeout(Duration)} also bounds the adaptive sleeps.
+ * The driver's implicit wait is suspended while it waits, see {@link ImplicitWaitCoordinator}.
+ */
+public class AdaptiveWait extends WebDriverWait {
+
+    private final WebDriver driver;
+    private final AdaptivePollPolicy.Tracker tracker;
+    private final PollSleeper sleeper;
+
+    public AdaptiveWait(WebDriver driver, Duration timeout, String key) {
+        this(driver, timeout, new PollSleeper(AdaptivePollPolicy.start(key), timeout));
+    }
+
+    private AdaptiveWait(WebDriver driver, Duration timeout, PollSleeper sleeper) {
+        // FluentWait still checks the deadline between polls; the sleeper decides how long to sleep
+        super(driver, timeout, Duration.ofMillis(1), Clock.systemDefaultZone(), sleeper);
+        this.driver = driver;
+        this.tracker = sleeper.tracker;
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public FluentWait<WebDriver> withTimeout(Duration timeout) {
+        // Also called by the WebDriverWait constructor, before the sleeper field is set
+        if (sleeper != null) {
+            sleeper.timeout = timeout;
+        }
+        return super.withTimeout(timeout);
+    }
+
+    @Override
+    public FluentWait<WebDriver> pollingEvery(Duration interval) {
+        if (sleeper != null) {
+            sleeper.fixedInterval = true;
+        }
+        return super.pollingEvery(interval);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        tracker.restart();
+        try {
+            V result = ImplicitWaitCoordinator.withoutImplicitWait(driver, () -> super.until(webDriver -> {
+                tracker.polled();
+                return isTrue.apply(webDriver);
+            }));
+            tracker.complete(true);
+            return result;
+        } catch (TimeoutException e) {
+            tracker.complete(false);
+            throw e;
+        }
+    }
+
+    public int getPolls() {
+        return tracker.getPolls();
+    }
+
+    private static final class PollSleeper implements Sleeper {
+        private final AdaptivePollPolicy.Tracker tracker;
+        private volatile Duration timeout;
+        private volatile boolean fixedInterval;
+
+        private PollSleeper(AdaptivePollPolicy.Tracker tracker, Duration timeout) {
+            this.tracker = tracker;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public void sleep(Duration interval) throws InterruptedException {
+            if (fixedInterval) {
+                Sleeper.SYSTEM_SLEEPER.sleep(interval);
+            } else {
+                tracker.sleep(Math.max(1, timeout.toMillis() - tracker.getElapsedMillis()));
+            }
+        }
+    }
+}
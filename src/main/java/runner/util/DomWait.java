@@ -0,0 +1,200 @@
+package runner.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import runner.config.ConfigSnapshot;
+import runner.config.TestConfiguration;
+import runner.model.Target;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Event-driven element waits. A MutationObserver injected with executeAsyncScript re-checks the
+ * condition whenever the DOM changes, so a wait returns as soon as it is satisfied instead of on
+ * the next 500 ms poll. Drivers that cannot run async scripts fall back to polling on the
+ * {@link AdaptivePollPolicy} schedule.
+ */
+@Slf4j
+public final class DomWait {
+
+    private static final String WATCH_SCRIPT = String.join("\n",
+        "var by = arguments[0], value = arguments[1], condition = arguments[2], text = arguments[3], watchMillis = arguments[4];",
+        "var callback = arguments[arguments.length - 1];",
+        ElementQuery.DISPLAYED_FUNCTION,
+        "function first(list) { return list.length > 0 ? list[0] : null; }",
+        "function locate() {",
+        "  switch (by) {",
+        "    case 'id': return document.getElementById(value);",
+        "    case 'name': return first(document.getElementsByName(value));",
+        "    case 'css': return document.querySelector(value);",
+        "    case 'xpath': return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;",
+        "    case 'className': return first(document.getElementsByClassName(value));",
+        "    case 'tagName': return first(document.getElementsByTagName(value));",
+        "    case 'linkText':",
+        "    case 'partialLinkText':",
+        "      var links = document.getElementsByTagName('a');",
+        "      for (var i = 0; i < links.length; i++) {",
+        "        var linkText = (links[i].innerText || '').trim();",
+        "        if (by === 'linkText' ? linkText === value : linkText.indexOf(value) >= 0) return links[i];",
+        "      }",
+        "      return null;",
+        "  }",
+        "  return null;",
+        "}",
+        "function check() {",
+        "  var el = locate();",
+        "  switch (condition) {",
+        "    case 'PRESENT': return el;",
+        "    case 'VISIBLE': return el && displayed(el) ? el : null;",
+        "    case 'CLICKABLE': return el && displayed(el) && !el.matches(':disabled') ? el : null;",
+        "    case 'INVISIBLE': return !el || !displayed(el) ? true : null;",
+        "    case 'TEXT_PRESENT': return el && (el.innerText || '').indexOf(text) >= 0 ? true : null;",
+        "  }",
+        "  return null;",
+        "}",
+        "var result = check();",
+        "if (result) { callback(result); return; }",
+        "var finished = false, observer, timer, ticker;",
+        "function finish(value) {",
+        "  if (finished) return;",
+        "  finished = true;",
+        "  observer.disconnect(); clearTimeout(timer); clearInterval(ticker);",
+        "  callback(value);",
+        "}",
+        "function recheck() { var value = check(); if (value) finish(value); }",
+        "observer = new MutationObserver(recheck);",
+        "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});",
+        // Style changes from animations or layout do not mutate the DOM; re-check those occasionally
+        "ticker = setInterval(recheck, 100);",
+        "timer = setTimeout(function () { finish(null); }, watchMillis);");
+
+    public enum Condition {
+        PRESENT,
+        VISIBLE,
+        INVISIBLE,
+        CLICKABLE,
+        TEXT_PRESENT
+    }
+
+    private DomWait() {
+    }
+
+    /**
+     * Wait until the element is present, visible or clickable and return it
+     */
+    public static WebElement untilElement(WebDriver driver, Target target, Condition condition, int timeoutSeconds) {
+        if (condition == Condition.INVISIBLE || condition == Condition.TEXT_PRESENT) {
+            throw new IllegalArgumentException("Condition does not yield an element: " + condition);
+        }
+        return (WebElement) until(driver, target, condition, null, timeoutSeconds);
+    }
+
+    /**
+     * Wait until the element is absent or hidden
+     */
+    public static boolean untilInvisible(WebDriver driver, Target target, int timeoutSeconds) {
+        return Boolean.TRUE.equals(until(driver, target, Condition.INVISIBLE, null, timeoutSeconds));
+    }
+
+    /**
+     * Wait until the element text contains the given text
+     */
+    public static boolean untilTextPresent(WebDriver driver, Target target, String text, int timeoutSeconds) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+        return Boolean.TRUE.equals(until(driver, target, Condition.TEXT_PRESENT, text, timeoutSeconds));
+    }
+
+    private static Object until(WebDriver driver, Target target, Condition condition, String text, int timeoutSeconds) {
+        TargetLocatorUtil.validateTarget(target);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        ConfigSnapshot config = TestConfiguration.current();
+        if (driver instanceof JavascriptExecutor js && config.eventDrivenWaitsEnabled()) {
+            // Keep each watch below the driver's script timeout
+            long maxWatchMillis = Math.max(500, TimeUnit.SECONDS.toMillis(config.scriptTimeoutSeconds()) - 500);
+            try {
+                while (true) {
+                    long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remainingMillis <= 0) {
+                        throw timeout(target, condition, timeoutSeconds);
+                    }
+                    try {
+                        Object result = js.executeAsyncScript(WATCH_SCRIPT, target.getBy(), target.getValue(),
+                            condition.name(), text, Math.min(remainingMillis, maxWatchMillis));
+                        if (result != null) {
+                            return result;
+                        }
+                    } catch (ScriptTimeoutException e) {
+                        // Watch outlived the script timeout; start another one
+                    }
+                }
+            } catch (TimeoutException e) {
+                throw e;
+            } catch (WebDriverException e) {
+                // Async scripts unavailable, or the page navigated away mid-watch
+                log.debug("Event-driven wait for {} failed, falling back to polling: {}", target, e.getMessage());
+            }
+        }
+
+        Function<WebDriver, ?> pollCondition = pollCondition(target, condition, text);
+        return ImplicitWaitCoordinator.withoutImplicitWait(driver,
+            () -> poll(driver, pollCondition, deadline, target, condition, timeoutSeconds));
+    }
+
+    private static Function<WebDriver, ?> pollCondition(Target target, Condition condition, String text) {
+        By locator = TargetLocatorUtil.getBy(target);
+        return switch (condition) {
+            case PRESENT -> ExpectedConditions.presenceOfElementLocated(locator);
+            case VISIBLE -> ExpectedConditions.visibilityOfElementLocated(locator);
+            case CLICKABLE -> ExpectedConditions.elementToBeClickable(locator);
+            case INVISIBLE -> ExpectedConditions.invisibilityOfElementLocated(locator);
+            case TEXT_PRESENT -> ExpectedConditions.textToBePresentInElementLocated(locator, text);
+        };
+    }
+
+    private static Object poll(WebDriver driver, Function<WebDriver, ?> condition, long deadline,
+                               Target target, Condition waitCondition, int timeoutSeconds) {
+        AdaptivePollPolicy.Tracker tracker = AdaptivePollPolicy.start(waitCondition + " " + target.getBy() + "=" + target.getValue());
+        while (true) {
+            try {
+                tracker.polled();
+                Object result = condition.apply(driver);
+                if (result != null && !Boolean.FALSE.equals(result)) {
+                    tracker.complete(true);
+                    return result;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                // Not there yet
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                tracker.complete(false);
+                throw timeout(target, waitCondition, timeoutSeconds);
+            }
+            try {
+                tracker.sleep(remainingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("Interrupted while waiting for " + target, e);
+            }
+        }
+    }
+
+    private static TimeoutException timeout(Target target, Condition condition, int timeoutSeconds) {
+        return new TimeoutException("Timed out after " + timeoutSeconds + " seconds waiting for "
+            + condition + " of " + target);
+    }
+}
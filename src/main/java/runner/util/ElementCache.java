@@ -0,0 +1,212 @@
+package runner.util;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import runner.config.TestConfiguration;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-scenario cache of located elements, keyed by compiled locator and window, so a
+ * scenario that touches the same element in consecutive steps pays for one findElement call.
+ * The cache is bound to the scenario thread and its driver. It is cleared on navigation and
+ * window close. A cached element that went stale is found again and only the failed call is
+ * repeated, so the rest of the step does not run twice.
+ */
+public final class ElementCache {
+
+    private static final ThreadLocal<ElementCache> current = new ThreadLocal<>();
+
+    private final WebDriver driver;
+    private final Map<Key, WebElement> elements = new HashMap<>();
+    private String window;
+
+    private long hits;
+    private long misses;
+    private long invalidations;
+    private long staleRetries;
+
+    private ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Bind a new cache to the current thread when element caching is enabled
+     *
+     * @return the cache, or null when caching is disabled
+     */
+    public static ElementCache open(WebDriver driver) {
+        if (!TestConfiguration.current().elementCacheEnabled()) {
+            return null;
+        }
+        ElementCache cache = new ElementCache(driver);
+        current.set(cache);
+        return cache;
+    }
+
+    /**
+     * Unbind the cache from the current thread
+     *
+     * @return statistics of the closed cache, or null when none was open
+     */
+    public static ElementCacheStats close() {
+        ElementCache cache = current.get();
+        current.remove();
+        return cache != null ? cache.getStats() : null;
+    }
+
+    /**
+     * Cache bound to the current thread for the given driver, or null
+     */
+    public static ElementCache current(WebDriver driver) {
+        ElementCache cache = current.get();
+        return cache != null && cache.driver == driver ? cache : null;
+    }
+
+    /**
+     * Drop the cached elements of the driver, e.g. after navigation
+     */
+    public static void invalidate(WebDriver driver) {
+        ElementCache cache = current(driver);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Record a window switch; elements of other windows stay cached under their own window
+     */
+    public static void switchedToWindow(WebDriver driver, String windowHandle) {
+        ElementCache cache = current(driver);
+        if (cache != null) {
+            cache.window = windowHandle;
+        }
+    }
+
+    /**
+     * Find an element, reusing the one found earlier with the same locator in the same window
+     */
+    public WebElement find(By locator) {
+        Key key = new Key(locator, window);
+        WebElement element = elements.get(key);
+        if (element != null) {
+            hits++;
+            return (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(),
+                new Class<?>[] {WebElement.class, WrapsElement.class}, new RefreshOnStale(key, element));
+        }
+
+        misses++;
+        element = driver.findElement(locator);
+        elements.put(key, element);
+        return element;
+    }
+
+    /**
+     * Replace a cached element that went stale with a freshly found one
+     */
+    private WebElement refresh(Key key) {
+        staleRetries++;
+        elements.remove(key);
+        WebElement element = driver.findElement(key.locator());
+        elements.put(key, element);
+        return element;
+    }
+
+    private void clear() {
+        if (!elements.isEmpty()) {
+            elements.clear();
+            invalidations++;
+        }
+    }
+
+    public ElementCacheStats getStats() {
+        return new ElementCacheStats(hits, misses, invalidations, staleRetries);
+    }
+
+    private record Key(By locator, String window) {
+    }
+
+    /**
+     * Cached element handed to a step. The first call that fails with a stale reference finds the
+     * element again and is repeated on it; the earlier calls of the step are not.
+     */
+    private final class RefreshOnStale implements InvocationHandler {
+        private final Key key;
+        private WebElement element;
+        private boolean refreshed;
+
+        private RefreshOnStale(Key key, WebElement element) {
+            this.key = key;
+            this.element = element;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == WrapsElement.class) {
+                return element;
+            }
+            if (method.getName().equals("equals") && args != null && args.length == 1
+                    && args[0] instanceof WrapsElement wrapper) {
+                args = new Object[] {wrapper.getWrappedElement()};
+            }
+
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException) || refreshed) {
+                    throw e.getCause();
+                }
+            }
+
+            refreshed = true;
+            element = refresh(key);
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Element cache statistics; every hit is a findElement round-trip saved
+     */
+    public static class ElementCacheStats {
+        private final long hits;
+        private final long misses;
+        private final long invalidations;
+        private final long staleRetries;
+
+        public ElementCacheStats(long hits, long misses, long invalidations, long staleRetries) {
+            this.hits = hits;
+            this.misses = misses;
+            this.invalidations = invalidations;
+            this.staleRetries = staleRetries;
+        }
+
+        // Getters
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getInvalidations() { return invalidations; }
+        public long getStaleRetries() { return staleRetries; }
+
+        public long getSavedRoundTrips() {
+            // A stale retry repeats the lookup, so it gives back one saved call
+            return Math.max(0, hits - staleRetries);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ElementCacheStats{savedRoundTrips=%d, hits=%d, misses=%d, invalidations=%d, staleRetries=%d}",
+                getSavedRoundTrips(), hits, misses, invalidations, staleRetries);
+        }
+    }
+}
@@ -5,16 +5,24 @@ import org.openqa.selenium.support.ui.Select;
 import runner.model.Target;
 import runner.config.TestConfiguration;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static runner.util.TargetLocatorUtil.getBy;
+
 public class ElementFinder {
     
     private final WebDriver driver;
+    private final ElementQuery query;
     
     public ElementFinder(WebDriver driver) {
         this.driver = driver;
+        this.query = ElementQuery.forDriver(driver).orElse(null);
     }
     
     // Static factory method
@@ -45,8 +53,7 @@ public class ElementFinder {
     
     // Find with wait
     public Optional<WebElement> findElementWithWait(Target target) {
-        TestConfiguration config = TestConfiguration.getInstance();
-        return findElementWithWait(target, config.getExplicitWaitSeconds());
+        return findElementWithWait(target, TestConfiguration.current().explicitWaitSeconds());
     }
     
     public Optional<WebElement> findElementWithWait(Target target, int timeoutSeconds) {
@@ -59,8 +66,7 @@ public class ElementFinder {
     }
     
     public WebElement findElementWithWaitOrThrow(Target target) {
-        TestConfiguration config = TestConfiguration.getInstance();
-        return findElementWithWaitOrThrow(target, config.getExplicitWaitSeconds());
+        return findElementWithWaitOrThrow(target, TestConfiguration.current().explicitWaitSeconds());
     }
     
     public WebElement findElementWithWaitOrThrow(Target target, int timeoutSeconds) {
@@ -70,71 +76,61 @@ public class ElementFinder {
     
     // Find visible elements only
     public List<WebElement> findVisibleElements(Target target) {
-        return findElements(target).stream()
-                .filter(WebElement::isDisplayed)
-                .collect(Collectors.toList());
+        return filterElements(target, ElementQuery.Filter.visible(), WebElement::isDisplayed);
     }
     
     public Optional<WebElement> findFirstVisibleElement(Target target) {
-        return findVisibleElements(target).stream().findFirst();
+        return findFirstMatching(target, ElementQuery.Filter.visible(), WebElement::isDisplayed);
     }
     
     // Find enabled elements only
     public List<WebElement> findEnabledElements(Target target) {
-        return findElements(target).stream()
-                .filter(WebElement::isEnabled)
-                .collect(Collectors.toList());
+        return filterElements(target, ElementQuery.Filter.enabled(), WebElement::isEnabled);
     }
     
     public Optional<WebElement> findFirstEnabledElement(Target target) {
-        return findEnabledElements(target).stream().findFirst();
+        return findFirstMatching(target, ElementQuery.Filter.enabled(), WebElement::isEnabled);
     }
     
     // Find clickable elements (visible and enabled)
     public List<WebElement> findClickableElements(Target target) {
-        return findElements(target).stream()
-                .filter(element -> element.isDisplayed() && element.isEnabled())
-                .collect(Collectors.toList());
+        return filterElements(target, ElementQuery.Filter.clickable(),
+                element -> element.isDisplayed() && element.isEnabled());
     }
     
     public Optional<WebElement> findFirstClickableElement(Target target) {
-        return findClickableElements(target).stream().findFirst();
+        return findFirstMatching(target, ElementQuery.Filter.clickable(),
+                element -> element.isDisplayed() && element.isEnabled());
     }
     
     // Find by text content
     public Optional<WebElement> findElementByText(Target target, String text) {
-        return findElements(target).stream()
-                .filter(element -> text.equals(element.getText()))
-                .findFirst();
+        return findFirstMatching(target, ElementQuery.Filter.textEquals(text),
+                element -> text.equals(element.getText()));
     }
     
     public Optional<WebElement> findElementByPartialText(Target target, String partialText) {
-        return findElements(target).stream()
-                .filter(element -> element.getText().contains(partialText))
-                .findFirst();
+        return findFirstMatching(target, ElementQuery.Filter.textContains(partialText),
+                element -> element.getText().contains(partialText));
     }
     
     // Find by attribute
     public Optional<WebElement> findElementByAttribute(Target target, String attribute, String value) {
-        return findElements(target).stream()
-                .filter(element -> value.equals(element.getAttribute(attribute)))
-                .findFirst();
+        return findFirstMatching(target, ElementQuery.Filter.attributeEquals(attribute, value),
+                element -> value.equals(element.getAttribute(attribute)));
     }
     
     public List<WebElement> findElementsByAttribute(Target target, String attribute, String value) {
-        return findElements(target).stream()
-                .filter(element -> value.equals(element.getAttribute(attribute)))
-                .collect(Collectors.toList());
+        return filterElements(target, ElementQuery.Filter.attributeEquals(attribute, value),
+                element -> value.equals(element.getAttribute(attribute)));
     }
     
     // Find by CSS class
     public List<WebElement> findElementsWithClass(Target target, String className) {
-        return findElements(target).stream()
-                .filter(element -> {
-                    String classes = element.getAttribute("class");
-                    return classes != null && classes.contains(className);
-                })
-                .collect(Collectors.toList());
+        return filterElements(target, ElementQuery.Filter.hasClass(className), element -> {
+            String classes = element.getAttribute("class");
+            return classes != null && classes.contains(className);
+        });
     }
     
     // Find in specific context (within another element)
@@ -212,6 +208,41 @@ public class ElementFinder {
         return findElementsInContext(table.get(), columnTarget);
     }
     
+    // Read table contents in bulk
+    public Optional<TableSnapshot> snapshotTable(Target tableTarget, String... attributes) {
+        return findElement(tableTarget)
+                .map(table -> readTableRows(table, 0, null, -1, List.of(attributes), false));
+    }
+    
+    public Optional<TableSnapshot> snapshotTableRows(Target tableTarget, int startRow, int rowCount, String... attributes) {
+        if (startRow < 0 || rowCount <= 0) {
+            throw new IllegalArgumentException("Start row must be non-negative and row count positive");
+        }
+        return findElement(tableTarget)
+                .map(table -> readTableRows(table, startRow, null, rowCount, List.of(attributes), false));
+    }
+    
+    public TableRowIterator iterateTableRows(Target tableTarget, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, got: " + chunkSize);
+        }
+        return iterateTableRows(tableTarget, chunkSize, TestConfiguration.getInstance().getTableRowsLoadTimeoutMillis());
+    }
+    
+    /**
+     * Stream table rows. When the table's {@code aria-rowcount} declares rows that are not
+     * rendered yet, wait up to {@code loadTimeoutMillis} for them to load at the end.
+     */
+    public TableRowIterator iterateTableRows(Target tableTarget, int chunkSize, long loadTimeoutMillis) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, got: " + chunkSize);
+        }
+        WebElement table = findElementOrThrow(tableTarget);
+        return new TableRowIterator(
+                (startRow, afterKey) -> readTableRows(table, startRow, afterKey, chunkSize, List.of(), true),
+                loadTimeoutMillis);
+    }
+    
     // Find parent/child elements
     public Optional<WebElement> findParent(WebElement element) {
         try {
@@ -259,7 +290,8 @@ public class ElementFinder {
     
     // Utility methods for element state checking
     public boolean isElementPresent(Target target) {
-        return findElement(target).isPresent();
+        // A probe answers now; waiting for the element is what findElementWithWait is for
+        return ImplicitWaitCoordinator.withoutImplicitWait(driver, () -> findElement(target).isPresent());
     }
     
     public boolean isElementVisible(Target target) {
@@ -309,22 +341,96 @@ public class ElementFinder {
                 .orElse("");
     }
     
-    // Helper method to convert Target to By
-    private By getBy(Target target) {
-        if (target == null) {
-            throw new IllegalArgumentException("Target cannot be null");
+    // One script call when the driver runs JavaScript, otherwise one WebDriver call per row and cell
+    private TableSnapshot readTableRows(WebElement table, int startRow, String afterKey, int maxRows,
+                                        List<String> attributes, boolean scrollToLastRow) {
+        if (query != null) {
+            try {
+                return query.readTable(table, startRow, afterKey, maxRows, attributes, scrollToLastRow);
+            } catch (WebDriverException e) {
+                // Fall back to per-cell reads
+            }
         }
         
-        return switch (target.getBy()) {
-            case "id" -> By.id(target.getValue());
-            case "name" -> By.name(target.getValue());
-            case "css" -> By.cssSelector(target.getValue());
-            case "xpath" -> By.xpath(target.getValue());
-            case "className" -> By.className(target.getValue());
-            case "tagName" -> By.tagName(target.getValue());
-            case "linkText" -> By.linkText(target.getValue());
-            case "partialLinkText" -> By.partialLinkText(target.getValue());
-            default -> throw new IllegalArgumentException("Unknown locator type: " + target.getBy());
-        };
+        List<WebElement> rows = table.findElements(By.xpath(ElementQuery.TABLE_ROWS_XPATH));
+        if (afterKey != null) {
+            startRow = resumeRow(rows, afterKey, startRow);
+        }
+        int end = maxRows < 0 ? rows.size() : Math.min(rows.size(), startRow + maxRows);
+        List<List<String>> text = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        Map<String, List<List<String>>> values = new HashMap<>();
+        attributes.forEach(attribute -> values.put(attribute, new ArrayList<>()));
+        for (int row = startRow; row < end; row++) {
+            keys.add(rowKey(rows.get(row)));
+            List<WebElement> cells = rows.get(row).findElements(By.xpath("./td|./th"));
+            text.add(cells.stream().map(cell -> cell.getText().trim()).collect(Collectors.toList()));
+            for (String attribute : attributes) {
+                values.get(attribute).add(cells.stream()
+                        .map(cell -> cell.getAttribute(attribute))
+                        .collect(Collectors.toList()));
+            }
+        }
+        return new TableSnapshot(startRow, rows.size(), text, keys, declaredRowCount(table), values);
+    }
+    
+    private static int declaredRowCount(WebElement table) {
+        String rowCount = table.getDomAttribute("aria-rowcount");
+        return rowCount != null && rowCount.matches("-?\\d+") ? Integer.parseInt(rowCount) : 0;
+    }
+    
+    // Same resume rule as the table script: after the row with the key, or at the first row with a
+    // higher aria-rowindex; a missing aria-rowindex row means the next rows are not loaded yet
+    private static int resumeRow(List<WebElement> rows, String afterKey, int startRow) {
+        long afterIndex = afterKey.matches("\\d+") ? Long.parseLong(afterKey) : -1;
+        for (int row = 0; row < rows.size(); row++) {
+            String key = rowKey(rows.get(row));
+            if (afterKey.equals(key)) {
+                return row + 1;
+            }
+            if (afterIndex >= 0 && key != null && key.matches("\\d+") && Long.parseLong(key) > afterIndex) {
+                return row;
+            }
+        }
+        return afterIndex >= 0 ? rows.size() : startRow;
+    }
+    
+    private static String rowKey(WebElement row) {
+        String index = row.getDomAttribute("aria-rowindex");
+        if (index != null && !index.isEmpty()) {
+            return index;
+        }
+        String id = row.getDomAttribute("id");
+        return id != null && !id.isEmpty() ? "#" + id : null;
+    }
+    
+    // Evaluate a filter for all matches in one script call when the driver runs JavaScript,
+    // otherwise with one WebDriver call per element
+    private List<WebElement> filterElements(Target target, ElementQuery.Filter filter, Predicate<WebElement> fallback) {
+        List<WebElement> elements = findElements(target);
+        if (query != null) {
+            try {
+                return query.filter(elements, filter);
+            } catch (WebDriverException e) {
+                // Fall back to per-element checks
+            }
+        }
+        return elements.stream()
+                .filter(fallback)
+                .collect(Collectors.toList());
+    }
+    
+    private Optional<WebElement> findFirstMatching(Target target, ElementQuery.Filter filter, Predicate<WebElement> fallback) {
+        List<WebElement> elements = findElements(target);
+        if (query != null) {
+            try {
+                return query.findFirst(elements, filter);
+            } catch (WebDriverException e) {
+                // Fall back to per-element checks
+            }
+        }
+        return elements.stream()
+                .filter(fallback)
+                .findFirst();
     }
 }
\ No newline at end of file
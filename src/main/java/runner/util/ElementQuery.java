@@ -0,0 +1,263 @@
+package runner.util;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Evaluates element filters for a whole list of elements in one executeScript call instead of
+ * one isDisplayed/isEnabled/getAttribute/getText round-trip per element. The script returns only
+ * the indices of the matching elements. Visibility and text are evaluated with DOM approximations
+ * of the WebDriver atoms (client rects and computed style, trimmed innerText).
+ */
+public final class ElementQuery {
+
+    /** DOM approximation of the WebDriver isDisplayed atom, shared by the injected scripts */
+    static final String DISPLAYED_FUNCTION = String.join("\n",
+        "function displayed(el) {",
+        "  if (el.getClientRects().length === 0) return false;",
+        "  var style = window.getComputedStyle(el);",
+        "  if (style.visibility === 'hidden' || style.visibility === 'collapse') return false;",
+        // Opacity is not inherited, so a transparent ancestor hides the element too
+        "  for (var node = el; node && node.nodeType === 1; node = node.parentElement) {",
+        "    if (window.getComputedStyle(node).opacity === '0') return false;",
+        "  }",
+        "  return true;",
+        "}");
+
+    private static final String FILTER_SCRIPT = String.join("\n",
+        "var elements = arguments[0], filter = arguments[1], firstOnly = arguments[2], matches = [];",
+        DISPLAYED_FUNCTION,
+        "function attribute(el, name) {",
+        "  if (name === 'class' || name === 'style') return el.getAttribute(name);",
+        "  var property = el[name];",
+        "  if (typeof property === 'boolean') return property ? 'true' : null;",
+        "  if (property !== undefined && property !== null && typeof property !== 'object' && typeof property !== 'function') return String(property);",
+        "  return el.getAttribute(name);",
+        "}",
+        "function text(el) {",
+        "  return (el.innerText || '').replace(/\\u00a0/g, ' ').trim();",
+        "}",
+        "for (var i = 0; i < elements.length; i++) {",
+        "  var el = elements[i];",
+        "  if (filter.displayed && !displayed(el)) continue;",
+        "  if (filter.enabled && el.matches(':disabled')) continue;",
+        "  if (filter.attribute != null && attribute(el, filter.attribute) !== filter.attributeValue) continue;",
+        "  if (filter.className != null) {",
+        "    var classes = el.getAttribute('class');",
+        "    if (classes === null || classes.indexOf(filter.className) < 0) continue;",
+        "  }",
+        "  if (filter.text != null && text(el) !== filter.text) continue;",
+        "  if (filter.partialText != null && text(el).indexOf(filter.partialText) < 0) continue;",
+        "  matches.push(i);",
+        "  if (firstOnly) break;",
+        "}",
+        "return matches;");
+
+    /** Rows of the table itself, not of nested tables; matches {@link #TABLE_ROWS_XPATH} */
+    private static final String TABLE_ROWS_SELECTOR =
+        ":scope > tr, :scope > thead > tr, :scope > tbody > tr, :scope > tfoot > tr";
+
+    /** Row set of the per-cell fallback, the same rows in the same order as the script reads */
+    static final String TABLE_ROWS_XPATH = "./tr|./thead/tr|./tbody/tr|./tfoot/tr";
+
+    private static final String TABLE_SCRIPT = String.join("\n",
+        "var table = arguments[0], start = arguments[1], count = arguments[2], names = arguments[3];",
+        "var rows = table.querySelectorAll('" + TABLE_ROWS_SELECTOR + "');",
+        "function key(row) {",
+        "  var index = row.getAttribute('aria-rowindex');",
+        "  return index ? index : row.id ? '#' + row.id : null;",
+        "}",
+        // Virtualized tables drop rows scrolled out of view, so resume after the last row read
+        // rather than at its DOM index: its key, or the first row with a higher aria-rowindex
+        "if (arguments[5] != null) {",
+        "  var after = arguments[5], afterIndex = /^\\d+$/.test(after) ? Number(after) : -1, resumed = -1;",
+        "  for (var i = 0; i < rows.length && resumed < 0; i++) {",
+        "    var rowKey = key(rows[i]);",
+        "    if (rowKey === after) resumed = i + 1;",
+        "    else if (afterIndex >= 0 && /^\\d+$/.test(rowKey) && Number(rowKey) > afterIndex) resumed = i;",
+        "  }",
+        "  start = resumed >= 0 ? resumed : afterIndex >= 0 ? rows.length : start;",
+        "}",
+        "var end = count < 0 ? rows.length : Math.min(rows.length, start + count);",
+        "var text = [], keys = [], attributes = {};",
+        "names.forEach(function (name) { attributes[name] = []; });",
+        "for (var r = start; r < end; r++) {",
+        "  var cells = rows[r].cells;",
+        "  var rowText = [];",
+        "  keys.push(key(rows[r]));",
+        "  names.forEach(function (name) { attributes[name].push([]); });",
+        "  for (var c = 0; c < cells.length; c++) {",
+        "    rowText.push((cells[c].innerText || '').replace(/\\u00a0/g, ' ').trim());",
+        "    names.forEach(function (name) { attributes[name][r - start].push(cells[c].getAttribute(name)); });",
+        "  }",
+        "  text.push(rowText);",
+        "}",
+        // Bring the last row into view so lazily rendered tables load the next page
+        "if (arguments[4] && end > start) rows[end - 1].scrollIntoView({block: 'end'});",
+        "return {start: start, total: rows.length, rowCount: Number(table.getAttribute('aria-rowcount')) || 0,",
+        "        text: text, keys: keys, attributes: attributes};");
+
+    private final JavascriptExecutor js;
+
+    private ElementQuery(JavascriptExecutor js) {
+        this.js = js;
+    }
+
+    /**
+     * Create a query engine for the driver, if it can execute JavaScript
+     */
+    public static Optional<ElementQuery> forDriver(Object driver) {
+        return driver instanceof JavascriptExecutor js ? Optional.of(new ElementQuery(js)) : Optional.empty();
+    }
+
+    /**
+     * Elements that match the filter, in document order
+     */
+    public List<WebElement> filter(List<WebElement> elements, Filter filter) {
+        if (elements.isEmpty()) {
+            return List.of();
+        }
+        List<WebElement> matches = new ArrayList<>();
+        for (int index : matchingIndices(elements, filter, false)) {
+            matches.add(elements.get(index));
+        }
+        return matches;
+    }
+
+    /**
+     * First element that matches the filter
+     */
+    public Optional<WebElement> findFirst(List<WebElement> elements, Filter filter) {
+        if (elements.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Integer> indices = matchingIndices(elements, filter, true);
+        return indices.isEmpty() ? Optional.empty() : Optional.of(elements.get(indices.get(0)));
+    }
+
+    /**
+     * Read the text and the given attributes of table rows {@code [startRow, startRow + maxRows)}
+     *
+     * @param afterKey key of the last row already read; when set, reading resumes after that row
+     *                 instead of at {@code startRow}
+     * @param maxRows rows to read, or -1 for all remaining rows
+     * @param scrollToLastRow scroll the last read row into view to trigger lazy loading
+     */
+    @SuppressWarnings("unchecked")
+    public TableSnapshot readTable(WebElement table, int startRow, String afterKey, int maxRows,
+                                   List<String> attributes, boolean scrollToLastRow) {
+        Object result = js.executeScript(TABLE_SCRIPT, table, startRow, maxRows, attributes, scrollToLastRow, afterKey);
+        if (!(result instanceof Map<?, ?> snapshot)) {
+            throw new WebDriverException("Unexpected table query result: " + result);
+        }
+
+        Object start = snapshot.get("start");
+        int total = ((Number) snapshot.get("total")).intValue();
+        Object declaredRowCount = snapshot.get("rowCount");
+        List<List<String>> rows = (List<List<String>>) snapshot.get("text");
+        List<String> keys = (List<String>) snapshot.get("keys");
+        Map<String, List<List<String>>> values = (Map<String, List<List<String>>>) snapshot.get("attributes");
+        return new TableSnapshot(start instanceof Number number ? number.intValue() : startRow, total, rows,
+            keys != null ? keys : List.of(), declaredRowCount instanceof Number count ? count.intValue() : 0,
+            values != null ? values : Map.of());
+    }
+
+    private List<Integer> matchingIndices(List<WebElement> elements, Filter filter, boolean firstOnly) {
+        Object result = js.executeScript(FILTER_SCRIPT, elements, filter.toScriptArgument(), firstOnly);
+        if (!(result instanceof List<?> indices)) {
+            throw new WebDriverException("Unexpected element query result: " + result);
+        }
+
+        List<Integer> matches = new ArrayList<>(indices.size());
+        for (Object index : indices) {
+            matches.add(((Number) index).intValue());
+        }
+        return matches;
+    }
+
+    /**
+     * Conditions an element must meet; all set conditions must hold
+     */
+    public static final class Filter {
+        private boolean displayed;
+        private boolean enabled;
+        private String attribute;
+        private String attributeValue;
+        private String className;
+        private String text;
+        private String partialText;
+
+        private Filter() {
+        }
+
+        public static Filter visible() {
+            Filter filter = new Filter();
+            filter.displayed = true;
+            return filter;
+        }
+
+        public static Filter enabled() {
+            Filter filter = new Filter();
+            filter.enabled = true;
+            return filter;
+        }
+
+        public static Filter clickable() {
+            Filter filter = visible();
+            filter.enabled = true;
+            return filter;
+        }
+
+        public static Filter attributeEquals(String attribute, String value) {
+            Filter filter = new Filter();
+            filter.attribute = attribute;
+            filter.attributeValue = value;
+            return filter;
+        }
+
+        public static Filter hasClass(String className) {
+            Filter filter = new Filter();
+            filter.className = className;
+            return filter;
+        }
+
+        public static Filter textEquals(String text) {
+            Filter filter = new Filter();
+            filter.text = text;
+            return filter;
+        }
+
+        public static Filter textContains(String partialText) {
+            Filter filter = new Filter();
+            filter.partialText = partialText;
+            return filter;
+        }
+
+        private Map<String, Object> toScriptArgument() {
+            Map<String, Object> argument = new HashMap<>();
+            argument.put("displayed", displayed);
+            argument.put("enabled", enabled);
+            if (attribute != null) {
+                argument.put("attribute", attribute);
+                argument.put("attributeValue", attributeValue);
+            }
+            if (className != null) {
+                argument.put("className", className);
+            }
+            if (text != null) {
+                argument.put("text", text);
+            }
+            if (partialText != null) {
+                argument.put("partialText", partialText);
+            }
+            return argument;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package runner.util;
+
+import org.openqa.selenium.WebDriver;
+import runner.config.TestConfiguration;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps implicit and explicit waits from stacking. While an explicit wait or a presence probe
+ * runs, the driver's implicit wait is set to zero so every poll of an absent element returns
+ * at once; the configured implicit wait is restored afterwards. Drivers are registered with
+ * their implicit wait when created, since reading it back would cost a WebDriver call.
+ */
+public final class ImplicitWaitCoordinator {
+
+    private static final Map<WebDriver, State> drivers = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final LongAdder suspensions = new LongAdder();
+
+    private ImplicitWaitCoordinator() {
+    }
+
+    /**
+     * Record the implicit wait a driver was configured with
+     */
+    public static void register(WebDriver driver, Duration implicitWait) {
+        drivers.put(driver, new State(implicitWait));
+    }
+
+    public static void unregister(WebDriver driver) {
+        drivers.remove(driver);
+    }
+
+    /**
+     * Run the action with the driver's implicit wait set to zero
+     */
+    public static <T> T withoutImplicitWait(WebDriver driver, Supplier<T> action) {
+        State state = drivers.get(driver);
+        if (state == null || state.implicitWait.isZero()
+                || !TestConfiguration.current().waitCoordinationEnabled()) {
+            return action.get();
+        }
+
+        state.suspend(driver);
+        try {
+            return action.get();
+        } finally {
+            state.resume(driver);
+        }
+    }
+
+    /**
+     * Number of times an implicit wait was suspended
+     */
+    public static long getSuspensions() {
+        return suspensions.sum();
+    }
+
+    private static final class State {
+        private final Duration implicitWait;
+        private int depth;
+
+        private State(Duration implicitWait) {
+            this.implicitWait = implicitWait;
+        }
+
+        // Nested waits only switch the timeout at the outermost level
+        synchronized void suspend(WebDriver driver) {
+            if (depth == 0) {
+                driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+                suspensions.increment();
+            }
+            depth++;
+        }
+
+        synchronized void resume(WebDriver driver) {
+            depth--;
+            if (depth == 0) {
+                driver.manage().timeouts().implicitlyWait(implicitWait);
+            }
+        }
+    }
+}
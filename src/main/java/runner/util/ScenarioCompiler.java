@@ -0,0 +1,153 @@
+package runner.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import lombok.extern.slf4j.Slf4j;
+import runner.executor.ActionRegistry;
+import runner.model.step.TestStep;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compiles JSON scenarios to a Smile (binary JSON) file next to the source, e.g.
+ * {@code login.json -> login.json.smile}. The compiled file starts with a header recording the
+ * size, modification time and SHA-256 of the source, followed by the steps. A compiled file is
+ * used only while it is fresh: size and mtime match, or the content hash still matches.
+ */
+@Slf4j
+public final class ScenarioCompiler {
+
+    public static final String COMPILED_EXTENSION = ".smile";
+
+    /** Bump when the compiled layout or the step model changes incompatibly */
+    static final int FORMAT_VERSION = 1;
+
+    private static final SmileMapper SMILE_MAPPER = ActionRegistry.configure(SmileMapper.builder()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .build());
+    private static final ObjectReader HEADER_READER = SMILE_MAPPER.readerFor(Header.class);
+    private static final ObjectReader STEP_LIST_READER = SMILE_MAPPER.readerFor(new TypeReference<List<TestStep>>() {
+    });
+    private static final ObjectWriter STEP_LIST_WRITER = SMILE_MAPPER.writerFor(new TypeReference<List<TestStep>>() {
+    });
+
+    private ScenarioCompiler() {
+    }
+
+    /**
+     * Path of the compiled form of a JSON scenario
+     */
+    public static Path compiledPath(Path scenarioFile) {
+        return scenarioFile.resolveSibling(scenarioFile.getFileName() + COMPILED_EXTENSION);
+    }
+
+    /**
+     * Parse the JSON scenario and write its compiled form next to it
+     */
+    public static Path compile(Path scenarioFile) throws IOException {
+        byte[] source = Files.readAllBytes(scenarioFile);
+        List<TestStep> steps = ScenarioReader.parse(source);
+
+        Header header = new Header();
+        header.formatVersion = FORMAT_VERSION;
+        header.sourceSize = source.length;
+        header.sourceModified = Files.getLastModifiedTime(scenarioFile).toMillis();
+        header.sourceHash = sha256(source);
+
+        Path target = compiledPath(scenarioFile);
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp);
+                 JsonGenerator generator = SMILE_MAPPER.createGenerator(out)) {
+                // Two root-level Smile values: the header, then the steps
+                SMILE_MAPPER.writeValue(generator, header);
+                STEP_LIST_WRITER.writeValue(generator, steps);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        log.debug("Compiled {} ({} steps) to {}", scenarioFile, steps.size(), target);
+        return target;
+    }
+
+    /**
+     * Load the compiled steps of a scenario if a fresh compiled file exists
+     */
+    public static Optional<List<TestStep>> loadIfFresh(Path scenarioFile) {
+        Path compiled = compiledPath(scenarioFile);
+        if (!Files.isRegularFile(compiled)) {
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = SMILE_MAPPER.createParser(compiled.toFile())) {
+            parser.nextToken();
+            Header header = HEADER_READER.readValue(parser);
+            if (!isFresh(header, scenarioFile)) {
+                log.debug("Compiled scenario {} is stale, falling back to JSON", compiled);
+                return Optional.empty();
+            }
+
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                log.warn("Compiled scenario {} has no step list, falling back to JSON", compiled);
+                return Optional.empty();
+            }
+            List<TestStep> steps = STEP_LIST_READER.readValue(parser);
+            return Optional.of(List.copyOf(steps));
+        } catch (IOException e) {
+            log.warn("Could not read compiled scenario {}: {}", compiled, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isFresh(Header header, Path scenarioFile) throws IOException {
+        if (header.formatVersion != FORMAT_VERSION) {
+            return false;
+        }
+
+        long size = Files.size(scenarioFile);
+        if (size != header.sourceSize) {
+            return false;
+        }
+        if (Files.getLastModifiedTime(scenarioFile).toMillis() == header.sourceModified) {
+            return true;
+        }
+
+        // Same size but touched (e.g. by a checkout): only the content hash can tell
+        return sha256(Files.readAllBytes(scenarioFile)).equals(header.sourceHash);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Metadata written in front of the compiled steps
+     */
+    static class Header {
+        public int formatVersion;
+        public long sourceSize;
+        public long sourceModified;
+        public String sourceHash;
+    }
+}
@@ -0,0 +1,127 @@
+package runner.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Small properties-file store of scenario durations from previous runs, keyed by scenario path.
+ * New measurements are averaged with the stored value to smooth out one-off slow runs. Each value
+ * is {@code millis} or {@code millis,steps}, so scheduling known scenarios needs no re-parse.
+ */
+@Slf4j
+public class ScenarioDurationStore {
+
+    private final Path file;
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+    private final Map<String, Integer> stepCounts = new ConcurrentHashMap<>();
+
+    public ScenarioDurationStore(Path file) {
+        this.file = file;
+        load();
+    }
+
+    public ScenarioDurationStore(String file) {
+        this(Paths.get(file));
+    }
+
+    /**
+     * Get the last recorded duration of a scenario in milliseconds
+     */
+    public OptionalLong getDurationMillis(String scenarioPath) {
+        Long duration = durations.get(key(scenarioPath));
+        return duration == null ? OptionalLong.empty() : OptionalLong.of(duration);
+    }
+
+    /**
+     * Get the step count recorded with the scenario's duration
+     */
+    public OptionalInt getStepCount(String scenarioPath) {
+        Integer steps = stepCounts.get(key(scenarioPath));
+        return steps == null ? OptionalInt.empty() : OptionalInt.of(steps);
+    }
+
+    /**
+     * Record a measured duration; averaged with the previous value when one exists
+     */
+    public void record(String scenarioPath, long durationMillis) {
+        durations.merge(key(scenarioPath), durationMillis, (previous, current) -> (previous + current) / 2);
+    }
+
+    /**
+     * Record a measured duration together with the number of steps the scenario ran
+     */
+    public void record(String scenarioPath, long durationMillis, int steps) {
+        record(scenarioPath, durationMillis);
+        if (steps > 0) {
+            stepCounts.put(key(scenarioPath), steps);
+        }
+    }
+
+    public int size() {
+        return durations.size();
+    }
+
+    /**
+     * Write all durations back to the store file
+     */
+    public synchronized void save() {
+        Properties properties = new Properties();
+        durations.forEach((scenario, duration) -> {
+            Integer steps = stepCounts.get(scenario);
+            properties.setProperty(scenario, steps == null ? String.valueOf(duration) : duration + "," + steps);
+        });
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Scenario durations in milliseconds");
+            }
+        } catch (IOException e) {
+            log.warn("Could not save scenario durations to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.warn("Could not load scenario durations from {}: {}", file, e.getMessage());
+            return;
+        }
+
+        for (String scenario : properties.stringPropertyNames()) {
+            String[] value = properties.getProperty(scenario).split(",");
+            try {
+                durations.put(scenario, Long.parseLong(value[0].trim()));
+                if (value.length > 1) {
+                    stepCounts.put(scenario, Integer.parseInt(value[1].trim()));
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring invalid duration for {}", scenario);
+            }
+        }
+    }
+
+    private static String key(String scenarioPath) {
+        return Paths.get(scenarioPath).normalize().toString().replace('\\', '/');
+    }
+}
@@ -0,0 +1,157 @@
+package runner.util;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import runner.config.TestConfiguration;
+import runner.executor.ActionRegistry;
+import runner.model.step.TestStep;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared, thread-safe reader for scenario files. Uses a single {@link ObjectReader} for
+ * {@code List<TestStep>} so Jackson's polymorphic step metadata is built once per JVM, and keeps
+ * a bounded cache of parsed scenarios keyed by the SHA-256 of the file content so that
+ * retries and re-runs skip parsing. Cached step lists are shared and must not be modified.
+ */
+@Slf4j
+public final class ScenarioReader {
+
+    private static final ObjectMapper MAPPER = ActionRegistry.configure(new ObjectMapper());
+    private static final ObjectReader STEP_LIST_READER = MAPPER.readerFor(new TypeReference<List<TestStep>>() {
+    });
+    private static final ObjectReader STEP_READER = MAPPER.readerFor(TestStep.class);
+
+    private static final Map<String, List<TestStep>> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<TestStep>> eldest) {
+            return size() > TestConfiguration.getInstance().getScenarioCacheSize();
+        }
+    };
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static volatile boolean warmedUp;
+
+    private ScenarioReader() {
+    }
+
+    /**
+     * Read a scenario file, returning the cached steps when the same content was parsed before
+     */
+    public static List<TestStep> read(Path scenarioFile) throws IOException {
+        return parse(Files.readAllBytes(scenarioFile));
+    }
+
+    /**
+     * Parse scenario JSON, returning the cached steps when the same content was parsed before
+     */
+    public static List<TestStep> parse(byte[] content) throws IOException {
+        if (TestConfiguration.getInstance().getScenarioCacheSize() <= 0) {
+            misses.increment();
+            return List.copyOf(STEP_LIST_READER.<List<TestStep>>readValue(content));
+        }
+
+        String key = contentHash(content);
+        List<TestStep> steps;
+        synchronized (cache) {
+            steps = cache.get(key);
+        }
+        if (steps != null) {
+            hits.increment();
+            return steps;
+        }
+
+        misses.increment();
+        steps = List.copyOf(STEP_LIST_READER.<List<TestStep>>readValue(content));
+        synchronized (cache) {
+            cache.put(key, steps);
+        }
+        return steps;
+    }
+
+    /**
+     * Open a scenario file for step-by-step reading; bypasses the parse cache
+     */
+    public static ScenarioStepIterator stream(Path scenarioFile) throws IOException {
+        return new ScenarioStepIterator(MAPPER.getFactory().createParser(scenarioFile.toFile()), STEP_READER,
+            scenarioFile.toString());
+    }
+
+    /**
+     * Build the deserializers for every registered step type up front
+     */
+    public static void prewarm() {
+        if (warmedUp) {
+            return;
+        }
+
+        List<String> actionNames = new ArrayList<>();
+        for (JsonSubTypes.Type type : TestStep.class.getAnnotation(JsonSubTypes.class).value()) {
+            actionNames.add(type.name());
+        }
+        actionNames.addAll(ActionRegistry.getPluginStepTypes().keySet());
+
+        StringBuilder sample = new StringBuilder("[");
+        for (String actionName : actionNames) {
+            if (sample.length() > 1) {
+                sample.append(',');
+            }
+            sample.append("{\"action\":\"").append(actionName).append("\"}");
+        }
+        sample.append(']');
+
+        long start = System.nanoTime();
+        try {
+            STEP_LIST_READER.readValue(sample.toString());
+            STEP_READER.readValue(sample.substring(1, sample.indexOf("}") + 1));
+        } catch (IOException e) {
+            log.debug("Scenario reader warm-up failed: {}", e.getMessage());
+        }
+        warmedUp = true;
+        log.debug("Scenario reader warmed up for {} step types in {}ms",
+            actionNames.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Drop all cached scenarios
+     */
+    public static void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public static long getCacheHits() {
+        return hits.sum();
+    }
+
+    public static long getCacheMisses() {
+        return misses.sum();
+    }
+
+    public static ObjectMapper getMapper() {
+        return MAPPER;
+    }
+
+    private static String contentHash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package runner.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+
+/**
+ * Orders scenarios longest-processing-time first (LPT) so long scenarios do not start last
+ * and stretch the suite's wall time. Durations come from {@link ScenarioDurationStore};
+ * unseen scenarios are estimated from their step count. Only unseen scenario files are parsed;
+ * step counts of known ones are read from the store.
+ */
+@Slf4j
+public class ScenarioScheduler {
+
+    /** Per-step cost used when there is no history at all */
+    static final long DEFAULT_MILLIS_PER_STEP = 1000;
+
+    private final ScenarioDurationStore store;
+
+    public ScenarioScheduler(ScenarioDurationStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Plan the submission order for the given scenarios on {@code workers} parallel slots
+     */
+    public Schedule schedule(List<String> scenarioPaths, int workers) {
+        List<String> unseen = new ArrayList<>();
+        List<ScheduledScenario> planned = new ArrayList<>();
+
+        long knownMillis = 0;
+        long knownSteps = 0;
+        for (String path : scenarioPaths) {
+            OptionalLong duration = store.getDurationMillis(path);
+            if (duration.isPresent()) {
+                planned.add(new ScheduledScenario(path, duration.getAsLong(), false));
+                OptionalInt steps = store.getStepCount(path);
+                if (steps.isPresent()) {
+                    knownMillis += duration.getAsLong();
+                    knownSteps += steps.getAsInt();
+                }
+            } else {
+                unseen.add(path);
+            }
+        }
+
+        // Unseen scenarios cost their step count times the historical per-step average
+        long millisPerStep = knownSteps > 0 ? Math.max(1, knownMillis / knownSteps) : DEFAULT_MILLIS_PER_STEP;
+        for (String path : unseen) {
+            long steps = Math.max(1, countSteps(path));
+            planned.add(new ScheduledScenario(path, steps * millisPerStep, true));
+        }
+
+        planned.sort(Comparator.comparingLong(ScheduledScenario::getEstimatedMillis).reversed());
+        return new Schedule(planned, predictMakespan(planned, workers));
+    }
+
+    /**
+     * Simulate greedy assignment of the ordered scenarios to the least loaded worker
+     */
+    static long predictMakespan(List<ScheduledScenario> ordered, int workers) {
+        PriorityQueue<Long> loads = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, workers); i++) {
+            loads.add(0L);
+        }
+
+        long makespan = 0;
+        for (ScheduledScenario scenario : ordered) {
+            long finish = loads.poll() + scenario.getEstimatedMillis();
+            makespan = Math.max(makespan, finish);
+            loads.add(finish);
+        }
+        return makespan;
+    }
+
+    private int countSteps(String scenarioPath) {
+        try {
+            JsonNode root = ScenarioReader.getMapper().readTree(new File(scenarioPath));
+            return root != null && root.isArray() ? root.size() : 0;
+        } catch (IOException e) {
+            log.debug("Could not count steps in {}: {}", scenarioPath, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * A scenario with its expected duration
+     */
+    public static class ScheduledScenario {
+        private final String path;
+        private final long estimatedMillis;
+        private final boolean estimatedFromSteps;
+
+        public ScheduledScenario(String path, long estimatedMillis, boolean estimatedFromSteps) {
+            this.path = path;
+            this.estimatedMillis = estimatedMillis;
+            this.estimatedFromSteps = estimatedFromSteps;
+        }
+
+        public String getPath() { return path; }
+        public long getEstimatedMillis() { return estimatedMillis; }
+        public boolean isEstimatedFromSteps() { return estimatedFromSteps; }
+    }
+
+    /**
+     * Ordered scenarios and the predicted wall time of running them
+     */
+    public static class Schedule {
+        private final List<ScheduledScenario> scenarios;
+        private final long predictedMakespanMillis;
+
+        public Schedule(List<ScheduledScenario> scenarios, long predictedMakespanMillis) {
+            this.scenarios = List.copyOf(scenarios);
+            this.predictedMakespanMillis = predictedMakespanMillis;
+        }
+
+        public List<ScheduledScenario> getScenarios() { return scenarios; }
+        public long getPredictedMakespanMillis() { return predictedMakespanMillis; }
+
+        public List<String> getOrderedPaths() {
+            return scenarios.stream().map(ScheduledScenario::getPath).toList();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package runner.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams scenario files from files and directory trees into a bounded queue.
+ * A background thread walks the roots recursively while workers consume paths with {@link #next()},
+ * so execution can start before discovery has finished. Directory entries are filtered by glob
+ * patterns matched against the path relative to their root.
+ */
+@Slf4j
+public class ScenarioSource implements AutoCloseable {
+
+    public static final String DEFAULT_INCLUDE = "**.json";
+
+    private static final String END_OF_STREAM = "";
+
+    private final List<Path> roots;
+    private final List<PathMatcher> includes;
+    private final List<PathMatcher> excludes;
+    private final BlockingQueue<String> queue;
+    private final AtomicLong discovered = new AtomicLong();
+    private volatile Thread producer;
+    private volatile boolean closed;
+    private boolean exhausted;
+
+    public ScenarioSource(List<Path> roots, List<String> includeGlobs, List<String> excludeGlobs, int queueCapacity) {
+        this.roots = List.copyOf(roots);
+        this.includes = toMatchers(includeGlobs.isEmpty() ? List.of(DEFAULT_INCLUDE) : includeGlobs);
+        this.excludes = toMatchers(excludeGlobs);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    /**
+     * Start walking the roots in the background
+     */
+    public synchronized ScenarioSource start() {
+        if (producer == null) {
+            producer = new Thread(this::produce, "scenario-discovery");
+            producer.setDaemon(true);
+            producer.start();
+        }
+        return this;
+    }
+
+    /**
+     * Next scenario path, blocking until one is discovered; null once all roots are exhausted
+     */
+    public String next() throws InterruptedException {
+        start();
+        synchronized (queue) {
+            if (exhausted) {
+                return null;
+            }
+            String path = queue.take();
+            if (END_OF_STREAM.equals(path)) {
+                exhausted = true;
+                return null;
+            }
+            return path;
+        }
+    }
+
+    /**
+     * Drain the whole source into a list, for callers that need every path up front
+     */
+    public List<String> toList() throws InterruptedException {
+        List<String> paths = new ArrayList<>();
+        String path;
+        while ((path = next()) != null) {
+            paths.add(path);
+        }
+        return paths;
+    }
+
+    public long getDiscoveredCount() {
+        return discovered.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Thread thread = producer;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void produce() {
+        try {
+            for (Path root : roots) {
+                if (closed) {
+                    break;
+                }
+                if (Files.isDirectory(root)) {
+                    walk(root);
+                } else if (Files.isRegularFile(root)) {
+                    // Explicitly listed files bypass the glob filters
+                    emit(root);
+                } else {
+                    log.warn("Scenario path does not exist: {}", root);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Scenario discovery failed: {}", e.getMessage());
+        } finally {
+            // Consumers may be blocked waiting; always deliver the end marker
+            putEndMarker();
+            log.debug("Scenario discovery finished, {} scenarios found", discovered.get());
+        }
+    }
+
+    private void walk(Path root) throws IOException, InterruptedException {
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (closed) {
+                        return FileVisitResult.TERMINATE;
+                    }
+                    if (attrs.isRegularFile() && accepts(root.relativize(file))) {
+                        try {
+                            emit(file);
+                        } catch (InterruptedException e) {
+                            throw new DiscoveryInterruptedException(e);
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    log.warn("Skipping unreadable scenario path {}: {}", file, e.getMessage());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (DiscoveryInterruptedException e) {
+            throw (InterruptedException) e.getCause();
+        }
+    }
+
+    private boolean accepts(Path relativePath) {
+        return includes.stream().anyMatch(matcher -> matcher.matches(relativePath))
+            && excludes.stream().noneMatch(matcher -> matcher.matches(relativePath));
+    }
+
+    private void emit(Path file) throws InterruptedException {
+        queue.put(file.toString());
+        discovered.incrementAndGet();
+    }
+
+    private void putEndMarker() {
+        if (!closed) {
+            try {
+                queue.put(END_OF_STREAM);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Closed or interrupted: pending paths are dropped so the marker always fits
+        queue.clear();
+        queue.offer(END_OF_STREAM);
+    }
+
+    private static List<PathMatcher> toMatchers(List<String> globs) {
+        return globs.stream()
+            .map(String::trim)
+            .filter(glob -> !glob.isEmpty())
+            .map(glob -> FileSystems.getDefault().getPathMatcher("glob:" + glob))
+            .toList();
+    }
+
+    private static class DiscoveryInterruptedException extends RuntimeException {
+        DiscoveryInterruptedException(InterruptedException cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package runner.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import runner.model.step.TestStep;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the steps of a scenario file one at a time with a {@link JsonParser}, so a step can run
+ * before the rest of the file has been read. Only the current step is held in memory.
+ */
+public class ScenarioStepIterator implements Iterator<TestStep>, AutoCloseable {
+
+    private final JsonParser parser;
+    private final ObjectReader stepReader;
+    private final String source;
+    private TestStep next;
+    private boolean finished;
+    private int stepsRead;
+
+    ScenarioStepIterator(JsonParser parser, ObjectReader stepReader, String source) throws IOException {
+        this.parser = parser;
+        this.stepReader = stepReader;
+        this.source = source;
+
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IOException("Scenario " + source + " must be a JSON array of steps");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public TestStep next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more steps in " + source);
+        }
+        TestStep step = next;
+        next = null;
+        return step;
+    }
+
+    public int getStepsRead() {
+        return stepsRead;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close scenario " + source, e);
+        }
+    }
+
+    private TestStep readNext() {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                close();
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a step object at index " + stepsRead + " but found " + token);
+            }
+
+            TestStep step = stepReader.readValue(parser);
+            stepsRead++;
+            return step;
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Failed to read step " + (stepsRead + 1) + " of " + source, e);
+        }
+    }
+}
@@ -0,0 +1,508 @@
+package runner.util;
+
+import lombok.extern.slf4j.Slf4j;
+import runner.config.TestConfiguration;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Encodes and writes screenshots on a small bounded executor, so a scenario only pays for
+ * grabbing the raw PNG bytes from the browser. Screenshots can be downscaled to a maximum width
+ * and re-encoded as JPEG. When the queue is full the capturing thread writes the screenshot
+ * itself, which keeps memory bounded.
+ * <p>
+ * With deduplication each image is stored once under {@value #STORE_DIRECTORY}, keyed by the
+ * SHA-256 of the captured bytes, and every screenshot file is a hard link to it. Where hard links
+ * are not supported, or a file of that name already exists, the stored file itself is returned
+ * for the report to reference; existing files are never replaced. Optionally, screenshots whose
+ * perceptual hash is within a small distance of one of the last {@value #MAX_PERCEPTUAL_HASHES}
+ * stored images reuse that image.
+ */
+@Slf4j
+public class ScreenshotWriter {
+
+    static final String STORE_DIRECTORY = "by-hash";
+    /** Stored images compared for near duplicates; older ones are forgotten */
+    static final int MAX_PERCEPTUAL_HASHES = 256;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static volatile ScreenshotWriter instance;
+
+    /**
+     * Image format screenshots are stored in
+     */
+    public enum Format {
+        PNG("png"), JPEG("jpg");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private final Executor executor;
+    private final ThreadPoolExecutor pool;
+    private final Format format;
+    private final float jpegQuality;
+    private final int maxWidth;
+    private final boolean deduplicate;
+    private final int nearDuplicateDistance;
+    private volatile boolean hardLinks = true;
+    // Directories are created once per run instead of being checked on every screenshot
+    private final Set<Path> createdDirectories = ConcurrentHashMap.newKeySet();
+    private final Set<CompletableFuture<Path>> pending = ConcurrentHashMap.newKeySet();
+    // Images being stored, by their path; concurrent writes of the same image wait for the first one
+    private final Map<Path, CompletableFuture<Path>> storing = new ConcurrentHashMap<>();
+    private final List<StoredImage> perceptualHashes = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Counters
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder capturedBytes = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+
+    /**
+     * @param threads background writer threads; 0 writes on the capturing thread
+     * @param queueCapacity screenshots waiting for a writer before the capturing thread writes itself
+     * @param maxWidth screenshots wider than this are scaled down; 0 keeps the original size
+     */
+    public ScreenshotWriter(int threads, int queueCapacity, Format format, float jpegQuality, int maxWidth) {
+        this(threads, queueCapacity, format, jpegQuality, maxWidth, false, -1);
+    }
+
+    /**
+     * @param deduplicate store each distinct image once and link screenshot files to it
+     * @param nearDuplicateDistance reuse a stored image whose 64-bit perceptual hash differs in at
+     *                              most this many bits; negative compares exact bytes only
+     */
+    public ScreenshotWriter(int threads, int queueCapacity, Format format, float jpegQuality, int maxWidth,
+                            boolean deduplicate, int nearDuplicateDistance) {
+        this.deduplicate = deduplicate;
+        this.nearDuplicateDistance = nearDuplicateDistance;
+        this.format = format;
+        this.jpegQuality = Math.max(0.05f, Math.min(1.0f, jpegQuality));
+        this.maxWidth = Math.max(0, maxWidth);
+        if (threads > 0) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // Full queue or shut down: the capturing thread writes the screenshot itself
+                (runnable, rejectedBy) -> runnable.run());
+            this.pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+        } else {
+            this.pool = null;
+            this.executor = Runnable::run;
+        }
+    }
+
+    /**
+     * Get the shared writer configured from the test configuration
+     */
+    public static ScreenshotWriter getInstance() {
+        if (instance == null) {
+            synchronized (ScreenshotWriter.class) {
+                if (instance == null) {
+                    TestConfiguration config = TestConfiguration.getInstance();
+                    instance = new ScreenshotWriter(config.getScreenshotWriterThreads(),
+                        config.getScreenshotQueueCapacity(), parseFormat(config.getScreenshotFormat()),
+                        config.getScreenshotJpegQuality(), config.getScreenshotMaxWidth(),
+                        config.isScreenshotDeduplicationEnabled(), config.getScreenshotNearDuplicateDistance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static Format parseFormat(String format) {
+        try {
+            return Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            log.warn("Unknown screenshot format '{}', using PNG", format);
+            return Format.PNG;
+        }
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * File name for a screenshot in the configured format. A sequence number keeps names unique
+     * when several screenshots with the same base name are taken within the same second.
+     */
+    public String fileName(String baseName) {
+        return baseName + "_" + sequence.incrementAndGet() + "." + format.getExtension();
+    }
+
+    /**
+     * Queue a screenshot for encoding and writing and return at once
+     * @param png screenshot bytes as returned by the browser
+     * @param file destination, named with {@link #fileName}
+     * @return completes with the file once it is written, or with the stored image it references
+     */
+    public CompletableFuture<Path> write(byte[] png, Path file) {
+        capturedBytes.add(png.length);
+        CompletableFuture<Path> result = new CompletableFuture<>();
+        pending.add(result);
+        result.whenComplete((path, error) -> pending.remove(result));
+        executor.execute(() -> {
+            try {
+                Path screenshot = deduplicate ? writeDeduplicated(png, file) : writeNow(png, file);
+                written.increment();
+                result.complete(screenshot);
+            } catch (Exception e) {
+                failed.increment();
+                log.warn("Could not write screenshot {}: {}", file, e.getMessage());
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Wait until every screenshot queued so far is written or has failed
+     */
+    public boolean flush(long timeoutMillis) {
+        CompletableFuture<?>[] inFlight = pending.toArray(new CompletableFuture<?>[0]);
+        try {
+            CompletableFuture.allOf(inFlight).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            // Failed writes are counted and logged where they happen
+            return true;
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public ScreenshotStats getStats() {
+        return new ScreenshotStats(written.sum(), failed.sum(), deduplicated.sum(), pending.size(),
+            capturedBytes.sum(), writtenBytes.sum(), TimeUnit.NANOSECONDS.toMillis(encodeNanos.sum()));
+    }
+
+    /**
+     * Write what is queued, then stop the writer threads
+     */
+    public void shutdown(long timeoutMillis) {
+        flush(timeoutMillis);
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private Path writeNow(byte[] png, Path file) throws IOException {
+        long start = System.nanoTime();
+        byte[] encoded = encode(png);
+        encodeNanos.add(System.nanoTime() - start);
+
+        createDirectory(file.toAbsolutePath().getParent());
+        Files.write(file, encoded);
+        writtenBytes.add(encoded.length);
+        return file;
+    }
+
+    private void createDirectory(Path directory) throws IOException {
+        if (directory != null && !createdDirectories.contains(directory)) {
+            Files.createDirectories(directory);
+            createdDirectories.add(directory);
+        }
+    }
+
+    private Path writeDeduplicated(byte[] png, Path file) throws IOException {
+        Path parent = file.getParent();
+        Path store = parent != null ? parent.resolve(STORE_DIRECTORY) : Path.of(STORE_DIRECTORY);
+        createDirectory(store.toAbsolutePath());
+
+        long perceptualHash = 0;
+        Path image = null;
+        if (nearDuplicateDistance >= 0) {
+            perceptualHash = perceptualHash(png);
+            image = findNearDuplicate(store, perceptualHash);
+        }
+        if (image == null) {
+            image = storeImage(png, store.resolve(sha256(png) + "." + format.getExtension()));
+            if (nearDuplicateDistance >= 0) {
+                perceptualHashes.add(new StoredImage(store, perceptualHash, image));
+                if (perceptualHashes.size() > MAX_PERCEPTUAL_HASHES) {
+                    perceptualHashes.remove(0);
+                }
+            }
+        } else {
+            deduplicated.increment();
+        }
+        return link(image, file);
+    }
+
+    /**
+     * Write the image unless this run or an earlier one already stored it. Only writes in progress
+     * are tracked; a finished image is found on disk.
+     */
+    private Path storeImage(byte[] png, Path image) throws IOException {
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> existing = storing.putIfAbsent(image, mine);
+        if (existing != null) {
+            deduplicated.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw new IOException("Stored screenshot " + image + " could not be written", e.getCause());
+            }
+        }
+
+        try {
+            if (Files.exists(image)) {
+                deduplicated.increment();
+            } else {
+                // Write under a temporary name so a crash never leaves a partial image behind its hash
+                Path temporary = image.resolveSibling(image.getFileName() + "." + Thread.currentThread().getId() + ".tmp");
+                writeNow(png, temporary);
+                Files.move(temporary, image, StandardCopyOption.REPLACE_EXISTING);
+            }
+            mine.complete(image);
+            return image;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            storing.remove(image, mine);
+        }
+    }
+
+    private Path link(Path image, Path file) {
+        if (hardLinks) {
+            try {
+                Files.createLink(file, image);
+                return file;
+            } catch (FileAlreadyExistsException e) {
+                // Another screenshot owns the name; keep it and reference the stored image instead
+                log.debug("Screenshot {} already exists, referencing {}", file, image);
+            } catch (UnsupportedOperationException e) {
+                disableHardLinks(file, e.getMessage());
+            } catch (IOException e) {
+                if (isLinkUnsupported(e)) {
+                    disableHardLinks(file, e.getMessage());
+                } else {
+                    log.debug("Could not link screenshot {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Whether the file system refuses hard links at all, as opposed to failing for this one file
+     */
+    private static boolean isLinkUnsupported(IOException e) {
+        String reason = e instanceof FileSystemException fileSystemError ? fileSystemError.getReason() : null;
+        if (reason == null) {
+            return false;
+        }
+        String lowerCase = reason.toLowerCase(Locale.ROOT);
+        return lowerCase.contains("not supported") || lowerCase.contains("not permitted")
+            || lowerCase.contains("cross-device");
+    }
+
+    private void disableHardLinks(Path file, String reason) {
+        hardLinks = false;
+        log.info("Hard links are not available for {} ({}), reports will reference stored screenshots",
+            file, reason);
+    }
+
+    private Path findNearDuplicate(Path store, long perceptualHash) {
+        for (StoredImage candidate : perceptualHashes) {
+            if (candidate.store().equals(store)
+                    && Long.bitCount(candidate.perceptualHash() ^ perceptualHash) <= nearDuplicateDistance) {
+                return candidate.image();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Difference hash: one bit per neighbouring pixel pair of a 9x8 grayscale thumbnail
+     */
+    static long perceptualHash(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("Screenshot is not a readable PNG image");
+        }
+        BufferedImage thumbnail = new BufferedImage(9, 8, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, 9, 8, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        long hash = 0;
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 8; x++) {
+                int left = thumbnail.getRaster().getSample(x, y, 0);
+                int right = thumbnail.getRaster().getSample(x + 1, y, 0);
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record StoredImage(Path store, long perceptualHash, Path image) {
+    }
+
+    private byte[] encode(byte[] png) throws IOException {
+        if (format == Format.PNG && maxWidth == 0) {
+            // The browser already returns a compressed PNG
+            return png;
+        }
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("Screenshot is not a readable PNG image");
+        }
+        boolean scale = maxWidth > 0 && image.getWidth() > maxWidth;
+        if (!scale && format == Format.PNG) {
+            return png;
+        }
+
+        int width = scale ? maxWidth : image.getWidth();
+        int height = scale ? Math.max(1, Math.round((float) image.getHeight() * maxWidth / image.getWidth())) : image.getHeight();
+        // JPEG has no alpha channel
+        int type = format == Format.JPEG ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(png.length / 2);
+        if (format == Format.JPEG) {
+            writeJpeg(target, out);
+        } else {
+            ImageIO.write(target, "png", out);
+        }
+        return out.toByteArray();
+    }
+
+    private void writeJpeg(BufferedImage image, ByteArrayOutputStream out) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG encoder available");
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * Screenshot pipeline counters
+     */
+    public static class ScreenshotStats {
+        private final long written;
+        private final long failed;
+        private final long deduplicated;
+        private final int pending;
+        private final long capturedBytes;
+        private final long writtenBytes;
+        private final long encodeMillis;
+
+        public ScreenshotStats(long written, long failed, long deduplicated, int pending,
+                               long capturedBytes, long writtenBytes, long encodeMillis) {
+            this.written = written;
+            this.failed = failed;
+            this.deduplicated = deduplicated;
+            this.pending = pending;
+            this.capturedBytes = capturedBytes;
+            this.writtenBytes = writtenBytes;
+            this.encodeMillis = encodeMillis;
+        }
+
+        // Getters
+        public long getWritten() { return written; }
+        public long getFailed() { return failed; }
+        public long getDeduplicated() { return deduplicated; }
+        public int getPending() { return pending; }
+        public long getCapturedBytes() { return capturedBytes; }
+        public long getWrittenBytes() { return writtenBytes; }
+        public long getEncodeMillis() { return encodeMillis; }
+
+        @Override
+        public String toString() {
+            return String.format("ScreenshotStats{written=%d, failed=%d, deduplicated=%d, pending=%d, captured=%d KB, stored=%d KB, encode=%d ms}",
+                written, failed, deduplicated, pending, capturedBytes / 1024, writtenBytes / 1024, encodeMillis);
+        }
+    }
+}
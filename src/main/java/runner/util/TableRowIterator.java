@@ -0,0 +1,121 @@
+package runner.util;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams table rows by loading one chunk at a time, so only the current chunk is held in memory.
+ * Each chunk resumes after the key of the last row read, so virtualized tables that drop rows
+ * scrolled out of view are read without gaps or repeats. When a chunk comes back empty but the
+ * table declares more rows in its {@code aria-rowcount}, the iterator waits up to the load timeout
+ * for them to load; otherwise iteration ends at once.
+ */
+public class TableRowIterator implements Iterator<List<String>> {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final ChunkLoader chunkLoader;
+    private final long loadTimeoutMillis;
+    private TableSnapshot chunk;
+    private int nextRow;
+    private String lastKey;
+    private int rowsRead;
+    private int positionInChunk;
+    private boolean exhausted;
+
+    /**
+     * @param chunkLoader loads the chunk of rows starting at the given row index
+     */
+    public TableRowIterator(ChunkLoader chunkLoader) {
+        this(chunkLoader, 0);
+    }
+
+    /**
+     * @param chunkLoader loads the chunk of rows starting at the given row index
+     * @param loadTimeoutMillis how long to wait for rows the table declares once the loaded ones are read
+     */
+    public TableRowIterator(ChunkLoader chunkLoader, long loadTimeoutMillis) {
+        this.chunkLoader = chunkLoader;
+        this.loadTimeoutMillis = loadTimeoutMillis;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (exhausted) {
+            return false;
+        }
+        if (chunk != null && positionInChunk < chunk.getRowCount()) {
+            return true;
+        }
+
+        chunk = loadNextChunk();
+        positionInChunk = 0;
+        if (chunk.getRowCount() == 0) {
+            exhausted = true;
+            chunk = null;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more table rows");
+        }
+        nextRow = chunk.getStartRow() + positionInChunk + 1;
+        lastKey = chunk.getRowKey(positionInChunk);
+        rowsRead++;
+        return chunk.getRow(positionInChunk++);
+    }
+
+    /**
+     * Index of the row {@link #next()} returns next
+     */
+    public int getNextRowIndex() {
+        return nextRow;
+    }
+
+    private TableSnapshot loadNextChunk() {
+        TableSnapshot loaded = chunkLoader.load(nextRow, lastKey);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(loadTimeoutMillis);
+        while (loaded.getRowCount() == 0 && (loaded.hasMoreRows() || loaded.declaresRowsAfter(lastRowIndex()))) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                break;
+            }
+            try {
+                Thread.sleep(Math.min(POLL_MILLIS, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            loaded = chunkLoader.load(nextRow, lastKey);
+        }
+        return loaded;
+    }
+
+    /**
+     * 1-based index of the last row read: its aria-rowindex key, or the number of rows read
+     */
+    private int lastRowIndex() {
+        if (lastKey != null && lastKey.matches("\\d+")) {
+            return Integer.parseInt(lastKey);
+        }
+        return rowsRead;
+    }
+
+    /**
+     * Loads the next chunk of rows
+     */
+    @FunctionalInterface
+    public interface ChunkLoader {
+        /**
+         * @param startRow DOM index of the first row to load
+         * @param afterKey key of the last row read, or null; takes precedence over {@code startRow}
+         */
+        TableSnapshot load(int startRow, String afterKey);
+    }
+}
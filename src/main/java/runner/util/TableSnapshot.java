@@ -0,0 +1,114 @@
+package runner.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Text (and optionally attributes) of a range of table rows, read in one script call.
+ * Row and column indices are relative to the first row of the snapshot. Each row has a key, its
+ * {@code aria-rowindex} or {@code #id}, that identifies it across reads of a virtualized table.
+ * The table's {@code aria-rowcount} tells whether rows that are not rendered yet exist.
+ */
+public class TableSnapshot {
+
+    private final int startRow;
+    private final int totalRows;
+    private final List<List<String>> rows;
+    private final List<String> keys;
+    private final int declaredRowCount;
+    private final Map<String, List<List<String>>> attributes;
+
+    public TableSnapshot(int startRow, int totalRows, List<List<String>> rows,
+                         Map<String, List<List<String>>> attributes) {
+        this(startRow, totalRows, rows, List.of(), attributes);
+    }
+
+    public TableSnapshot(int startRow, int totalRows, List<List<String>> rows, List<String> keys,
+                         Map<String, List<List<String>>> attributes) {
+        this(startRow, totalRows, rows, keys, 0, attributes);
+    }
+
+    /**
+     * @param declaredRowCount the table's {@code aria-rowcount}: -1 when it declares an unknown
+     *                         size, 0 when it declares none
+     */
+    public TableSnapshot(int startRow, int totalRows, List<List<String>> rows, List<String> keys,
+                         int declaredRowCount, Map<String, List<List<String>>> attributes) {
+        this.startRow = startRow;
+        this.totalRows = totalRows;
+        this.rows = rows;
+        this.keys = keys;
+        this.declaredRowCount = declaredRowCount;
+        this.attributes = attributes;
+    }
+
+    // Getters
+    public int getStartRow() { return startRow; }
+    public int getTotalRows() { return totalRows; }
+    public int getRowCount() { return rows.size(); }
+    public int getDeclaredRowCount() { return declaredRowCount; }
+    public List<List<String>> getRows() { return rows; }
+
+    public List<String> getRow(int row) {
+        return rows.get(row);
+    }
+
+    /**
+     * Key of a row, or null when it has neither an aria-rowindex nor an id
+     */
+    public String getRowKey(int row) {
+        return row < keys.size() ? keys.get(row) : null;
+    }
+
+    /**
+     * Cell text, or null when the row has fewer cells
+     */
+    public String getCell(int row, int column) {
+        List<String> cells = rows.get(row);
+        return column < cells.size() ? cells.get(column) : null;
+    }
+
+    public List<String> getColumn(int column) {
+        List<String> values = new ArrayList<>(rows.size());
+        for (int row = 0; row < rows.size(); row++) {
+            values.add(getCell(row, column));
+        }
+        return values;
+    }
+
+    /**
+     * Attribute of a cell, or null when it was not requested or is not set
+     */
+    public String getAttribute(String attribute, int row, int column) {
+        List<List<String>> values = attributes.get(attribute);
+        if (values == null) {
+            return null;
+        }
+        List<String> cells = values.get(row);
+        return column < cells.size() ? cells.get(column) : null;
+    }
+
+    /**
+     * Whether rows after this snapshot exist in the table
+     */
+    public boolean hasMoreRows() {
+        return startRow + rows.size() < totalRows;
+    }
+
+    /**
+     * Whether the table declares rows after the given one that may still be loaded: its
+     * {@code aria-rowcount} is higher, or -1 for a table of unknown size
+     *
+     * @param lastRowIndex 1-based index of the last row read, as in {@code aria-rowindex}
+     */
+    public boolean declaresRowsAfter(int lastRowIndex) {
+        return declaredRowCount == -1 || declaredRowCount > lastRowIndex;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TableSnapshot{rows=%d-%d, totalRows=%d, attributes=%s}",
+            startRow, startRow + rows.size(), totalRows, attributes.keySet());
+    }
+}
@@ -1,14 +1,25 @@
 package runner.util;
 
 import org.openqa.selenium.By;
+import runner.config.TestConfiguration;
 import runner.model.Target;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Utility class for converting Target objects to Selenium By locators.
  * This centralizes the target-to-locator conversion logic to avoid duplication.
+ * Compiled locators are immutable and interned by (by, value) in a bounded cache,
+ * so repeated lookups of the same target skip validation and reuse one By instance.
  */
 public final class TargetLocatorUtil {
     
+    private static final Map<LocatorKey, By> cache = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    
     private TargetLocatorUtil() {
         // Utility class - prevent instantiation
     }
@@ -17,7 +28,7 @@ public final class TargetLocatorUtil {
      * Converts a Target object to a Selenium By locator.
      * 
      * @param target The target object containing locator information
-     * @return Selenium By locator
+     * @return Selenium By locator, shared with every target that has the same type and value
      * @throws IllegalArgumentException if target is null or has invalid locator type
      */
     public static By getBy(Target target) {
@@ -25,17 +36,58 @@ public final class TargetLocatorUtil {
             throw new IllegalArgumentException("Target cannot be null");
         }
         
-        String locatorType = target.getBy();
-        String locatorValue = target.getValue();
-        
-        if (locatorType == null || locatorType.trim().isEmpty()) {
-            throw new IllegalArgumentException("Target locator type cannot be null or empty");
+        LocatorKey key = new LocatorKey(target.getBy(), target.getValue());
+        By locator = cache.get(key);
+        if (locator != null) {
+            hits.increment();
+            return locator;
         }
         
-        if (locatorValue == null || locatorValue.trim().isEmpty()) {
-            throw new IllegalArgumentException("Target locator value cannot be null or empty");
+        misses.increment();
+        locator = compile(key.by(), key.value());
+        // Once full, new locators are still compiled but no longer cached
+        if (cache.size() < TestConfiguration.current().locatorCacheSize()) {
+            By existing = cache.putIfAbsent(key, locator);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return locator;
+    }
+    
+    /**
+     * Validates that a target is not null and has valid locator information.
+     * 
+     * @param target The target to validate
+     * @throws IllegalArgumentException if target is invalid
+     */
+    public static void validateTarget(Target target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
         }
         
+        validateLocator(target.getBy(), target.getValue());
+    }
+    
+    /**
+     * Drop all compiled locators and reset the hit counters
+     */
+    public static void clearCache() {
+        cache.clear();
+        hits.reset();
+        misses.reset();
+    }
+    
+    /**
+     * Get locator cache statistics
+     */
+    public static LocatorCacheStats getCacheStats() {
+        return new LocatorCacheStats(hits.sum(), misses.sum(), cache.size());
+    }
+    
+    private static By compile(String locatorType, String locatorValue) {
+        validateLocator(locatorType, locatorValue);
+        
         return switch (locatorType) {
             case "id" -> By.id(locatorValue);
             case "name" -> By.name(locatorValue);
@@ -52,23 +104,47 @@ public final class TargetLocatorUtil {
         };
     }
     
+    private static void validateLocator(String locatorType, String locatorValue) {
+        if (locatorType == null || locatorType.trim().isEmpty()) {
+            throw new IllegalArgumentException("Target locator type cannot be null or empty");
+        }
+        
+        if (locatorValue == null || locatorValue.trim().isEmpty()) {
+            throw new IllegalArgumentException("Target locator value cannot be null or empty");
+        }
+    }
+    
+    private record LocatorKey(String by, String value) {
+    }
+    
     /**
-     * Validates that a target is not null and has valid locator information.
-     * 
-     * @param target The target to validate
-     * @throws IllegalArgumentException if target is invalid
+     * Locator cache statistics
      */
-    public static void validateTarget(Target target) {
-        if (target == null) {
-            throw new IllegalArgumentException("Target cannot be null");
+    public static class LocatorCacheStats {
+        private final long hits;
+        private final long misses;
+        private final int size;
+        
+        public LocatorCacheStats(long hits, long misses, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.size = size;
         }
         
-        if (target.getBy() == null || target.getBy().trim().isEmpty()) {
-            throw new IllegalArgumentException("Target locator type cannot be null or empty");
+        // Getters
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public int getSize() { return size; }
+        
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
         }
         
-        if (target.getValue() == null || target.getValue().trim().isEmpty()) {
-            throw new IllegalArgumentException("Target locator value cannot be null or empty");
+        @Override
+        public String toString() {
+            return String.format("LocatorCacheStats{hits=%d, misses=%d, hitRate=%.1f%%, size=%d}",
+                hits, misses, getHitRate() * 100, size);
         }
     }
-}
\ No newline at end of file
+}
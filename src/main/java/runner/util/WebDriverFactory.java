@@ -193,6 +193,7 @@ public class WebDriverFactory {
     private static void configureDriver(WebDriver driver, WebDriverConfig config) {
         // Set timeouts
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWaitSeconds()));
+        ImplicitWaitCoordinator.register(driver, Duration.ofSeconds(config.getImplicitWaitSeconds()));
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeoutSeconds()));
         driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(config.getScriptTimeoutSeconds()));
         
@@ -205,6 +206,7 @@ public class WebDriverFactory {
     
     public static void quitDriver(WebDriver driver) {
         if (driver != null) {
+            ImplicitWaitCoordinator.unregister(driver);
             try {
                 driver.quit();
             } catch (Exception e) {
@@ -0,0 +1,478 @@
+package runner.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import runner.config.TestConfiguration;
+
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded pool of reusable WebDriver sessions built around {@link WebDriverFactory}.
+ * Each browser type gets its own sub-pool; at most {@code maxSessionsPerBrowser} sessions
+ * exist per browser type at any time. Sessions are reset between leases and evicted when
+ * they fail a health probe. Sessions can be started ahead of time with {@link #prewarm(int)}
+ * so the first lease does not wait on a cold browser launch.
+ */
+@Slf4j
+public class WebDriverPool {
+
+    private static final String BLANK_PAGE = "about:blank";
+    private static final long WARMUP_POLL_MILLIS = 100;
+
+    private static volatile WebDriverPool instance;
+
+    private final int maxSessionsPerBrowser;
+    private final Function<WebDriverFactory.BrowserType, WebDriverFactory.WebDriverConfig> configProvider;
+    private final Function<WebDriverFactory.WebDriverConfig, WebDriver> driverCreator;
+    private final Map<WebDriverFactory.BrowserType, BrowserPool> pools = new ConcurrentHashMap<>();
+    private final Map<WebDriver, BrowserPool> leased = new ConcurrentHashMap<>();
+    private volatile ExecutorService warmupExecutor;
+    private volatile boolean closed;
+
+    // Counters
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder creations = new LongAdder();
+    private final LongAdder prewarmed = new LongAdder();
+    private final LongAdder totalCreationNanos = new LongAdder();
+    private final AtomicLong maxCreationNanos = new AtomicLong();
+
+    public WebDriverPool(int maxSessionsPerBrowser) {
+        this(maxSessionsPerBrowser,
+             browserType -> TestConfiguration.getInstance().createWebDriverConfig().browserType(browserType),
+             WebDriverFactory::createDriver);
+    }
+
+    public WebDriverPool(int maxSessionsPerBrowser,
+                         Function<WebDriverFactory.BrowserType, WebDriverFactory.WebDriverConfig> configProvider,
+                         Function<WebDriverFactory.WebDriverConfig, WebDriver> driverCreator) {
+        if (maxSessionsPerBrowser <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive, got: " + maxSessionsPerBrowser);
+        }
+        this.maxSessionsPerBrowser = maxSessionsPerBrowser;
+        this.configProvider = configProvider;
+        this.driverCreator = driverCreator;
+    }
+
+    /**
+     * Get the shared pool sized from the test configuration
+     */
+    public static WebDriverPool getInstance() {
+        if (instance == null) {
+            synchronized (WebDriverPool.class) {
+                if (instance == null) {
+                    instance = new WebDriverPool(TestConfiguration.getInstance().getDriverPoolSize());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Lease a session for the configured browser type
+     */
+    public WebDriver lease() {
+        return lease(TestConfiguration.getInstance().getBrowserType());
+    }
+
+    /**
+     * Lease a session for the given browser type. Blocks while all sessions of that type are leased.
+     */
+    public WebDriver lease(WebDriverFactory.BrowserType browserType) {
+        if (closed) {
+            throw new IllegalStateException("WebDriver pool has been shut down");
+        }
+
+        BrowserPool pool = pools.computeIfAbsent(browserType, BrowserPool::new);
+        pool.acquirePermit();
+
+        try {
+            WebDriver driver;
+            while ((driver = pollIdle(pool)) != null) {
+                if (isHealthy(driver)) {
+                    hits.increment();
+                    leased.put(driver, pool);
+                    log.debug("Reusing pooled {} session", browserType);
+                    return driver;
+                }
+                evict(driver, "failed health probe");
+            }
+
+            misses.increment();
+            driver = createSession(pool);
+            leased.put(driver, pool);
+            return driver;
+        } catch (RuntimeException e) {
+            pool.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Start sessions for the configured browser type in the background
+     */
+    public void prewarm(int count) {
+        prewarm(TestConfiguration.getInstance().getBrowserType(), count);
+    }
+
+    /**
+     * Start up to {@code count} sessions of the given browser type in the background. Warm sessions
+     * land in the idle queue; a lease that finds no idle session waits for a pending warm-up
+     * instead of launching another browser.
+     */
+    public void prewarm(WebDriverFactory.BrowserType browserType, int count) {
+        if (closed || count <= 0) {
+            return;
+        }
+
+        BrowserPool pool = pools.computeIfAbsent(browserType, BrowserPool::new);
+        int existing = pool.idle.size() + pool.warming.get() + (maxSessionsPerBrowser - pool.permits.availablePermits());
+        int toStart = Math.min(count, maxSessionsPerBrowser - existing);
+        if (toStart <= 0) {
+            return;
+        }
+
+        log.info("Pre-warming {} {} session(s)", toStart, browserType);
+        ExecutorService executor = getWarmupExecutor();
+        for (int i = 0; i < toStart; i++) {
+            pool.warming.incrementAndGet();
+            CompletableFuture.runAsync(() -> warmUp(pool), executor);
+        }
+    }
+
+    private void warmUp(BrowserPool pool) {
+        try {
+            WebDriver driver = createSession(pool);
+            prewarmed.increment();
+            if (closed) {
+                WebDriverFactory.quitDriver(driver);
+            } else {
+                pool.idle.offerLast(driver);
+                if (closed && pool.idle.remove(driver)) {
+                    // Pool shut down while the session was starting
+                    WebDriverFactory.quitDriver(driver);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to pre-warm {} session: {}", pool.browserType, e.getMessage());
+        } finally {
+            pool.warming.decrementAndGet();
+        }
+    }
+
+    private ExecutorService getWarmupExecutor() {
+        if (warmupExecutor == null) {
+            synchronized (this) {
+                if (warmupExecutor == null) {
+                    warmupExecutor = Executors.newCachedThreadPool(runnable -> {
+                        Thread thread = new Thread(runnable, "webdriver-warmup");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return warmupExecutor;
+    }
+
+    /**
+     * Take an idle session, waiting for in-flight warm-ups before giving up
+     */
+    private WebDriver pollIdle(BrowserPool pool) {
+        WebDriver driver = pool.idle.pollFirst();
+        while (driver == null && pool.warming.get() > 0) {
+            try {
+                driver = pool.idle.pollFirst(WARMUP_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a pre-warmed session", e);
+            }
+        }
+        return driver;
+    }
+
+    /**
+     * Return a leased session to the pool. The session is reset before it can be leased again;
+     * sessions that cannot be reset are evicted.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+
+        BrowserPool pool = leased.remove(driver);
+        if (pool == null) {
+            log.warn("Released a WebDriver that was not leased from this pool, quitting it");
+            WebDriverFactory.quitDriver(driver);
+            return;
+        }
+
+        try {
+            if (closed) {
+                evict(driver, "pool shut down");
+            } else if (resetSession(driver)) {
+                pool.idle.offerFirst(driver);
+            } else {
+                evict(driver, "failed to reset");
+            }
+        } finally {
+            pool.permits.release();
+        }
+    }
+
+    /**
+     * Discard a leased session instead of returning it to the pool
+     */
+    public void invalidate(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+
+        BrowserPool pool = leased.remove(driver);
+        evict(driver, "invalidated by caller");
+        if (pool != null) {
+            pool.permits.release();
+        }
+    }
+
+    /**
+     * Quit all idle sessions and refuse further leases. Sessions still leased are quit on release.
+     */
+    public void shutdown() {
+        closed = true;
+        if (warmupExecutor != null) {
+            warmupExecutor.shutdown();
+        }
+        for (BrowserPool pool : pools.values()) {
+            WebDriver driver;
+            while ((driver = pool.idle.pollFirst()) != null) {
+                WebDriverFactory.quitDriver(driver);
+            }
+        }
+        log.info("WebDriver pool shut down: {}", getStats());
+    }
+
+    /**
+     * Clear cookies of all origins and site data of the current origin and of the hosts that set a
+     * cookie, on their default ports
+     *
+     * @return false when the driver rejected a CDP command
+     */
+    private boolean clearBrowserData(HasCdp cdp, String currentUrl) {
+        try {
+            Set<String> origins = new LinkedHashSet<>();
+            addOrigin(origins, currentUrl);
+            Object cookies = cdp.executeCdpCommand("Network.getAllCookies", Map.of()).get("cookies");
+            if (cookies instanceof List<?> cookieList) {
+                for (Object cookie : cookieList) {
+                    if (cookie instanceof Map<?, ?> attributes && attributes.get("domain") instanceof String domain) {
+                        String host = domain.startsWith(".") ? domain.substring(1) : domain;
+                        origins.add("https://" + host);
+                        origins.add("http://" + host);
+                    }
+                }
+            }
+
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            for (String origin : origins) {
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+            }
+            return true;
+        } catch (WebDriverException e) {
+            log.debug("Could not clear browser data over CDP, clearing the current origin only: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void addOrigin(Set<String> origins, String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() != null && uri.getScheme() != null && uri.getScheme().startsWith("http")) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : ""));
+            }
+        } catch (IllegalArgumentException | NullPointerException e) {
+            // about:blank, data: URLs and the like have no origin to clear
+        }
+    }
+
+    private WebDriver createSession(BrowserPool pool) {
+        long start = System.nanoTime();
+        WebDriver driver = driverCreator.apply(configProvider.apply(pool.browserType));
+        long elapsed = System.nanoTime() - start;
+
+        creations.increment();
+        totalCreationNanos.add(elapsed);
+        maxCreationNanos.accumulateAndGet(elapsed, Math::max);
+        log.debug("Created new {} session in {}ms", pool.browserType, elapsed / 1_000_000);
+        return driver;
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            log.debug("Pooled session failed health probe: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Bring a session back to a neutral state: single window, no cookies, empty storage, blank page.
+     * Local and session storage of the current origin are cleared through the page. Chromium drivers
+     * are also cleared through CDP: cookies of every origin, and storage and caches of the current
+     * origin and of every origin that set a cookie. Cookie domains carry no port, so such origins
+     * are cleared on the default ports only; storage a scenario left on another port-bearing origin
+     * (e.g. {@code http://localhost:8080}) survives unless it is the current one, and session storage
+     * survives on every origin but the current one. Other drivers can only reach the current origin.
+     * Disable pooling for scenarios that depend on a clean cross-origin state.
+     */
+    private boolean resetSession(WebDriver driver) {
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            String primaryHandle = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(primaryHandle)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(primaryHandle);
+
+            // Storage.clearDataForOrigin leaves sessionStorage alone, so clear web storage of the
+            // current origin through the page first
+            if (driver instanceof JavascriptExecutor js) {
+                try {
+                    js.executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+                } catch (WebDriverException e) {
+                    // Storage is not accessible on every origin (e.g. about:blank, data: URLs)
+                    log.trace("Could not clear web storage: {}", e.getMessage());
+                }
+            }
+
+            if (!(driver instanceof HasCdp cdp && clearBrowserData(cdp, driver.getCurrentUrl()))) {
+                driver.manage().deleteAllCookies();
+            }
+            driver.navigate().to(BLANK_PAGE);
+            return true;
+        } catch (WebDriverException | java.util.NoSuchElementException e) {
+            log.warn("Failed to reset pooled session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void evict(WebDriver driver, String reason) {
+        evictions.increment();
+        log.debug("Evicting pooled session: {}", reason);
+        WebDriverFactory.quitDriver(driver);
+    }
+
+    /**
+     * Get a snapshot of the pool counters
+     */
+    public PoolStats getStats() {
+        int idle = pools.values().stream().mapToInt(pool -> pool.idle.size()).sum();
+        return new PoolStats(hits.sum(), misses.sum(), evictions.sum(), creations.sum(), prewarmed.sum(),
+            totalCreationNanos.sum(), maxCreationNanos.get(), idle, leased.size());
+    }
+
+    public int getMaxSessionsPerBrowser() {
+        return maxSessionsPerBrowser;
+    }
+
+    private class BrowserPool {
+        private final WebDriverFactory.BrowserType browserType;
+        private final LinkedBlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+        private final AtomicInteger warming = new AtomicInteger();
+        private final Semaphore permits = new Semaphore(maxSessionsPerBrowser, true);
+
+        private BrowserPool(WebDriverFactory.BrowserType browserType) {
+            this.browserType = browserType;
+        }
+
+        private void acquirePermit() {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a " + browserType + " session", e);
+            }
+        }
+    }
+
+    /**
+     * Immutable pool statistics
+     */
+    public static class PoolStats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long creations;
+        private final long prewarmed;
+        private final long totalCreationNanos;
+        private final long maxCreationNanos;
+        private final int idleSessions;
+        private final int leasedSessions;
+
+        public PoolStats(long hits, long misses, long evictions, long creations, long prewarmed,
+                         long totalCreationNanos, long maxCreationNanos, int idleSessions, int leasedSessions) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.creations = creations;
+            this.prewarmed = prewarmed;
+            this.totalCreationNanos = totalCreationNanos;
+            this.maxCreationNanos = maxCreationNanos;
+            this.idleSessions = idleSessions;
+            this.leasedSessions = leasedSessions;
+        }
+
+        // Getters
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getEvictions() { return evictions; }
+        public long getCreations() { return creations; }
+        public long getPrewarmed() { return prewarmed; }
+        public int getIdleSessions() { return idleSessions; }
+        public int getLeasedSessions() { return leasedSessions; }
+        public long getMaxCreationMillis() { return maxCreationNanos / 1_000_000; }
+
+        public double getAverageCreationMillis() {
+            return creations == 0 ? 0.0 : (double) totalCreationNanos / creations / 1_000_000;
+        }
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total * 100;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "PoolStats{leases: %d hits, %d misses (%.1f%% hit rate), %d evictions, " +
+                "sessions: %d created (%d pre-warmed, avg %.0fms, max %dms), %d idle, %d leased}",
+                hits, misses, getHitRate(), evictions,
+                creations, prewarmed, getAverageCreationMillis(), getMaxCreationMillis(), idleSessions, leasedSessions
+            );
+        }
+    }
+}
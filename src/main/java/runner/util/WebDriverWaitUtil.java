@@ -10,6 +10,8 @@ import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
 
+import static runner.util.TargetLocatorUtil.getBy;
+
 public class WebDriverWaitUtil {
     
     private static final int DEFAULT_TIMEOUT_SECONDS = 10;
@@ -18,8 +20,7 @@ public class WebDriverWaitUtil {
     // Get default timeout from configuration
     private static int getDefaultTimeoutSeconds() {
         try {
-            runner.config.TestConfiguration config = runner.config.TestConfiguration.getInstance();
-            return config.getExplicitWaitSeconds();
+            return runner.config.TestConfiguration.current().explicitWaitSeconds();
         } catch (Exception e) {
             return DEFAULT_TIMEOUT_SECONDS;
         }
@@ -46,7 +47,12 @@ public class WebDriverWaitUtil {
     }
     
     public static WebDriverWait createWait(WebDriver driver, int timeoutSeconds) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        return new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds), null);
+    }
+    
+    // Waits on a target learn the typical wait time of its locator
+    private static WebDriverWait createWait(WebDriver driver, int timeoutSeconds, Target target) {
+        return new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds), target.getBy() + "=" + target.getValue());
     }
     
     public static WebDriverWait createWait(WebDriver driver, int timeoutSeconds, int pollIntervalMillis) {
@@ -59,13 +65,10 @@ public class WebDriverWaitUtil {
     }
     
     public static WebElement waitForElement(WebDriver driver, Target target, WaitCondition condition, int timeoutSeconds) {
-        By locator = TargetLocatorUtil.getBy(target);
-        WebDriverWait wait = createWait(driver, timeoutSeconds);
-        
         return switch (condition) {
-            case VISIBLE -> wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-            case PRESENT -> wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            case CLICKABLE -> wait.until(ExpectedConditions.elementToBeClickable(locator));
+            case VISIBLE -> DomWait.untilElement(driver, target, DomWait.Condition.VISIBLE, timeoutSeconds);
+            case PRESENT -> DomWait.untilElement(driver, target, DomWait.Condition.PRESENT, timeoutSeconds);
+            case CLICKABLE -> DomWait.untilElement(driver, target, DomWait.Condition.CLICKABLE, timeoutSeconds);
             default -> throw new IllegalArgumentException("Unsupported wait condition for element: " + condition);
         };
     }
@@ -76,9 +79,7 @@ public class WebDriverWaitUtil {
     }
     
     public static boolean waitForInvisibility(WebDriver driver, Target target, int timeoutSeconds) {
-        By locator = getBy(target);
-        WebDriverWait wait = createWait(driver, timeoutSeconds);
-        return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return DomWait.untilInvisible(driver, target, timeoutSeconds);
     }
     
     // Wait for text conditions
@@ -87,9 +88,7 @@ public class WebDriverWaitUtil {
     }
     
     public static boolean waitForTextPresent(WebDriver driver, Target target, String text, int timeoutSeconds) {
-        By locator = getBy(target);
-        WebDriverWait wait = createWait(driver, timeoutSeconds);
-        return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        return DomWait.untilTextPresent(driver, target, text, timeoutSeconds);
     }
     
     public static boolean waitForTextPresentInValue(WebDriver driver, Target target, String value) {
@@ -98,7 +97,7 @@ public class WebDriverWaitUtil {
     
     public static boolean waitForTextPresentInValue(WebDriver driver, Target target, String value, int timeoutSeconds) {
         By locator = getBy(target);
-        WebDriverWait wait = createWait(driver, timeoutSeconds);
+        WebDriverWait wait = createWait(driver, timeoutSeconds, target);
         return wait.until(ExpectedConditions.textToBePresentInElementValue(locator, value));
     }
     
@@ -109,7 +108,7 @@ public class WebDriverWaitUtil {
     
     public static boolean waitForAttributeContains(WebDriver driver, Target target, String attribute, String value, int timeoutSeconds) {
         By locator = getBy(target);
-        WebDriverWait wait = createWait(driver, timeoutSeconds);
+        WebDriverWait wait = createWait(driver, timeoutSeconds, target);
         return wait.until(ExpectedConditions.attributeContains(locator, attribute, value));
     }
     
@@ -119,7 +118,7 @@ public class WebDriverWaitUtil {
     
     public static boolean waitForAttributeToBe(WebDriver driver, Target target, String attribute, String value, int timeoutSeconds) {
         By locator = getBy(target);
-        WebDriverWait wait = createWait(driver, timeoutSeconds);
+        WebDriverWait wait = createWait(driver, timeoutSeconds, target);
         return wait.until(ExpectedConditions.attributeToBe(locator, attribute, value));
     }
     
@@ -159,7 +158,7 @@ public class WebDriverWaitUtil {
     
     public static WebDriver waitForFrameAndSwitchToIt(WebDriver driver, Target frameTarget, int timeoutSeconds) {
         By locator = getBy(frameTarget);
-        WebDriverWait wait = createWait(driver, timeoutSeconds);
+        WebDriverWait wait = createWait(driver, timeoutSeconds, frameTarget);
         return wait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(locator));
     }
     
@@ -170,7 +169,7 @@ public class WebDriverWaitUtil {
     
     public static List<WebElement> waitForMultipleElements(WebDriver driver, Target target, int timeoutSeconds) {
         By locator = getBy(target);
-        WebDriverWait wait = createWait(driver, timeoutSeconds);
+        WebDriverWait wait = createWait(driver, timeoutSeconds, target);
         return wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
     }
     
@@ -181,7 +180,7 @@ public class WebDriverWaitUtil {
     
     public static List<WebElement> waitForElementCount(WebDriver driver, Target target, int expectedCount, int timeoutSeconds) {
         By locator = getBy(target);
-        WebDriverWait wait = createWait(driver, timeoutSeconds);
+        WebDriverWait wait = createWait(driver, timeoutSeconds, target);
         return wait.until(ExpectedConditions.numberOfElementsToBe(locator, expectedCount));
     }
     
@@ -217,43 +216,31 @@ public class WebDriverWaitUtil {
         });
     }
     
-    // Helper method to convert Target to By
-    private static By getBy(Target target) {
-        if (target == null) {
-            throw new IllegalArgumentException("Target cannot be null");
-        }
-        
-        return switch (target.getBy()) {
-            case "id" -> By.id(target.getValue());
-            case "name" -> By.name(target.getValue());
-            case "css" -> By.cssSelector(target.getValue());
-            case "xpath" -> By.xpath(target.getValue());
-            case "className" -> By.className(target.getValue());
-            case "tagName" -> By.tagName(target.getValue());
-            case "linkText" -> By.linkText(target.getValue());
-            case "partialLinkText" -> By.partialLinkText(target.getValue());
-            default -> throw new IllegalArgumentException("Unknown locator type: " + target.getBy());
-        };
-    }
-    
-    // Polling wait - useful for conditions that might not trigger standard WebDriverWait
+    // Polling wait - useful for conditions that might not trigger standard WebDriverWait;
+    // polls back off adaptively up to pollIntervalMillis
     public static boolean pollForCondition(Function<Void, Boolean> condition, int timeoutSeconds, int pollIntervalMillis) {
-        long startTime = System.currentTimeMillis();
         long timeoutMillis = timeoutSeconds * 1000L;
+        AdaptivePollPolicy.Tracker tracker = AdaptivePollPolicy.start(null, pollIntervalMillis);
         
-        while (System.currentTimeMillis() - startTime < timeoutMillis) {
+        while (tracker.getElapsedMillis() < timeoutMillis) {
+            tracker.polled();
             try {
                 if (Boolean.TRUE.equals(condition.apply(null))) {
+                    tracker.complete(true);
                     return true;
                 }
-                Thread.sleep(pollIntervalMillis);
+            } catch (Exception e) {
+                // Continue polling on exceptions
+            }
+            
+            try {
+                tracker.sleep(timeoutMillis - tracker.getElapsedMillis());
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new RuntimeException("Wait interrupted", e);
-            } catch (Exception e) {
-                // Continue polling on exceptions
             }
         }
+        tracker.complete(false);
         return false;
     }
 }
\ No newline at end of file
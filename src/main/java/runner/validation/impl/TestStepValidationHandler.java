@@ -1,5 +1,6 @@
 package runner.validation.impl;
 
+import runner.executor.ActionRegistry;
 import runner.model.step.TestStep;
 import runner.validation.ValidationHandler;
 import runner.validation.ValidationResult;
@@ -16,13 +17,13 @@ public class TestStepValidationHandler extends ValidationHandler<TestStep> {
         }
         
         // Validate that step has an action
-        if (step.getAction() == null) {
+        if (!ActionRegistry.supports(step)) {
             return ValidationResult.failure(getHandlerName(), "TestStep action cannot be null");
         }
         
         // Try to get the executor to ensure it's valid
         try {
-            step.getAction().executor();
+            ActionRegistry.executorFor(step);
         } catch (Exception e) {
             return ValidationResult.failure(getHandlerName(), 
                 "Failed to get executor for TestStep action: " + e.getMessage());
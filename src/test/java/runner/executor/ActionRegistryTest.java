@@ -0,0 +1,70 @@
+package runner.executor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import runner.TestBase;
+import runner.command.StepExecutionCommand;
+import runner.executor.basic.ClickActionExecutor;
+import runner.model.step.TestAction;
+import runner.model.step.TestStep;
+import runner.util.ScenarioReader;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ActionRegistry Tests")
+class ActionRegistryTest extends TestBase {
+
+    @Override
+    protected void tearDownTest() {
+        ActionRegistry.reset();
+    }
+
+    @Test
+    @DisplayName("Should discover plugin actions through ServiceLoader")
+    void shouldDiscoverPluginActions() {
+        // When
+        ActionExecutor<?> executor = ActionRegistry.get(EchoActionProvider.ACTION_NAME);
+
+        // Then
+        assertInstanceOf(EchoActionProvider.EchoActionExecutor.class, executor);
+        assertTrue(ActionRegistry.isRegistered(EchoActionProvider.ACTION_NAME));
+        assertEquals(EchoActionProvider.EchoActionStep.class,
+            ActionRegistry.getPluginStepTypes().get(EchoActionProvider.ACTION_NAME));
+    }
+
+    @Test
+    @DisplayName("Should parse and execute plugin steps from scenario JSON")
+    void shouldParseAndExecutePluginSteps() throws Exception {
+        // Given
+        List<TestStep> steps = ScenarioReader.parse(
+            "[{\"action\": \"ECHO\", \"name\": \"Say hello\", \"message\": \"hello\"}]".getBytes());
+        TestStep step = steps.get(0);
+
+        // When
+        new StepExecutionCommand(mock(WebDriver.class), step, 0).execute();
+
+        // Then
+        assertInstanceOf(EchoActionProvider.EchoActionStep.class, step);
+        assertNull(step.getAction());
+        assertTrue(ActionRegistry.supports(step));
+        assertTrue(EchoActionProvider.EchoActionExecutor.MESSAGES.contains("hello"));
+    }
+
+    @Test
+    @DisplayName("Should replace a built-in executor at runtime")
+    void shouldReplaceBuiltInExecutor() {
+        // Given
+        ClickActionExecutor replacement = new ClickActionExecutor();
+
+        // When
+        ActionRegistry.register(TestAction.CLICK, replacement);
+
+        // Then
+        assertSame(replacement, TestAction.CLICK.executor());
+        assertNotSame(replacement, TestAction.NAVIGATE.executor());
+    }
+}
@@ -0,0 +1,48 @@
+package runner.executor;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.openqa.selenium.WebDriver;
+import runner.model.step.TestStep;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Plugin action used by the registry tests; registered through META-INF/services
+ */
+public class EchoActionProvider implements ActionExecutorProvider {
+
+    public static final String ACTION_NAME = "ECHO";
+
+    @Override
+    public String getActionName() {
+        return ACTION_NAME;
+    }
+
+    @Override
+    public Class<? extends TestStep> getStepType() {
+        return EchoActionStep.class;
+    }
+
+    @Override
+    public ActionExecutor<? extends TestStep> createExecutor() {
+        return new EchoActionExecutor();
+    }
+
+    @Getter
+    @Setter
+    public static class EchoActionStep extends TestStep {
+        private String message;
+    }
+
+    public static class EchoActionExecutor extends ActionExecutor<EchoActionStep> {
+        public static final List<String> MESSAGES = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void execute(WebDriver driver, EchoActionStep step) {
+            validateStep(step);
+            MESSAGES.add(step.getMessage());
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package runner.manager;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.Status;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import runner.TestBase;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReportLog Tests")
+class ReportLogTest extends TestBase {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should append every record from concurrent scenarios as one JSON line")
+    void shouldAppendConcurrentRecords(@TempDir Path tempDir) throws Exception {
+        // Given
+        Path file = tempDir.resolve("report.ndjson");
+        int scenarios = 8;
+        int stepsPerScenario = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When: a small queue forces producers to wait for the writer
+        try (ReportLog reportLog = ReportLog.open(file, 16)) {
+            for (int scenario = 1; scenario <= scenarios; scenario++) {
+                long test = scenario;
+                executor.submit(() -> {
+                    reportLog.append(ReportLog.Type.TEST_START, test, "Scenario " + test, null, null);
+                    for (int step = 0; step < stepsPerScenario; step++) {
+                        reportLog.append(ReportLog.Type.STEP, test, "Step " + step, Status.PASS, "ok");
+                    }
+                    reportLog.append(ReportLog.Type.TEST_END, test, null, null, null);
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            reportLog.flush();
+
+            // Then: everything is on disk before close
+            assertEquals((long) scenarios * (stepsPerScenario + 2), reportLog.getWrittenCount());
+            assertEquals(0, reportLog.getQueueDepth());
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(scenarios * (stepsPerScenario + 2), lines.size());
+        Map<Long, Integer> stepsSeen = new HashMap<>();
+        for (String line : lines) {
+            JsonNode record = MAPPER.readTree(line);
+            long test = record.get("test").asLong();
+            switch (record.get("type").asText()) {
+                case "TEST_START" -> assertNull(stepsSeen.put(test, 0));
+                case "STEP" -> {
+                    assertEquals("PASS", record.get("status").asText());
+                    stepsSeen.merge(test, 1, Integer::sum);
+                }
+                case "TEST_END" -> assertEquals(stepsPerScenario, stepsSeen.get(test));
+                default -> fail("Unexpected record " + line);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should render tests from the log into Extent reports")
+    void shouldRenderLog(@TempDir Path tempDir) throws Exception {
+        // Given
+        Path file = tempDir.resolve("report.ndjson");
+        try (ReportLog reportLog = ReportLog.open(file, 64)) {
+            reportLog.append(ReportLog.Type.SUITE, 0, "Suite", null, null);
+            reportLog.append(ReportLog.Type.TEST_START, 1, "login", null, null);
+            reportLog.append(ReportLog.Type.LOG, 1, null, Status.INFO, "Scenario file found");
+            reportLog.append(ReportLog.Type.STEP, 1, "Completed: Click", Status.PASS, "Step executed successfully");
+            reportLog.append(ReportLog.Type.TEST_END, 1, null, null, null);
+            reportLog.append(ReportLog.Type.TEST_START, 2, "checkout", null, null);
+            reportLog.append(ReportLog.Type.STEP, 2, "FAILED: Submit", Status.FAIL, "Element not found");
+            reportLog.append(ReportLog.Type.TEST_END, 2, null, null, null);
+        }
+
+        // When
+        ExtentReports extent = new ExtentReports();
+        int tests = ReportLog.render(file, extent);
+
+        // Then
+        assertEquals(2, tests);
+        assertEquals(Status.FAIL, extent.getReport().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should render a log that was cut off by a crash")
+    void shouldRenderTruncatedLog(@TempDir Path tempDir) throws Exception {
+        // Given
+        Path file = tempDir.resolve("report.ndjson");
+        try (ReportLog reportLog = ReportLog.open(file, 64)) {
+            reportLog.append(ReportLog.Type.TEST_START, 1, "login", null, null);
+            reportLog.append(ReportLog.Type.STEP, 1, "Completed: Click", Status.PASS, "ok");
+        }
+        Files.writeString(file, "{\"time\":1,\"type\":\"STEP\",\"test\":1,\"na", StandardCharsets.UTF_8,
+            StandardOpenOption.APPEND);
+
+        // When
+        ExtentReports extent = new ExtentReports();
+        int tests = assertDoesNotThrow(() -> ReportLog.render(file, extent));
+
+        // Then
+        assertEquals(1, tests);
+    }
+
+    @Test
+    @DisplayName("Should drop records instead of blocking once the writer has failed")
+    void shouldDropRecordsAfterWriterFailure(@TempDir Path tempDir) {
+        // Given: a disk that fails on the first write
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("No space left on device");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        ReportLog reportLog = new ReportLog(tempDir.resolve("report.ndjson"), new BufferedWriter(failing, 1), 2);
+
+        // When: far more records than the queue holds
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            for (int i = 0; i < 100; i++) {
+                reportLog.append(ReportLog.Type.LOG, 1, null, Status.INFO, "record " + i);
+            }
+            reportLog.close();
+        });
+
+        // Then
+        assertEquals(0, reportLog.getWrittenCount());
+        assertEquals(100, reportLog.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Should publish a buffered scenario to Extent in one step")
+    void shouldPublishScenarioReport() {
+        // Given
+        ExtentReports extent = new ExtentReports();
+        ScenarioReport report = new ScenarioReport(1, "login");
+        report.log(Status.INFO, "Scenario file found");
+        report.step(Status.PASS, "Completed: Click", "Step executed successfully");
+        report.step(Status.FAIL, "FAILED: Submit", "Element not found");
+
+        // When: nothing reaches the report before the scenario is published
+        int testsBefore = extent.getReport().getTestList().size();
+        report.publishTo(extent);
+        report.step(Status.PASS, "Too late", "ignored");
+
+        // Then
+        assertEquals(0, testsBefore);
+        com.aventstack.extentreports.model.Test test = extent.getReport().getTestList().get(0);
+        assertEquals("login", test.getName());
+        assertEquals(List.of("Completed: Click", "FAILED: Submit"),
+            test.getChildren().stream().map(com.aventstack.extentreports.model.Test::getName).toList());
+        assertEquals(Status.FAIL, test.getStatus());
+        assertEquals(5, report.getRecordCount());
+    }
+
+    @Test
+    @DisplayName("Should append a streamed scenario's records as they happen")
+    void shouldStreamScenarioRecords(@TempDir Path tempDir) throws Exception {
+        // Given
+        Path file = tempDir.resolve("report.ndjson");
+        CompletableFuture<String> screenshot = new CompletableFuture<>();
+
+        try (ReportLog reportLog = ReportLog.open(file, 16)) {
+            ScenarioReport report = new ScenarioReport(3, "search", reportLog);
+            report.step(Status.PASS, "Completed: Type", "Step executed successfully");
+            report.screenshot("Results", screenshot);
+
+            // When: the scenario is still running
+            reportLog.flush();
+            List<String> running = Files.readAllLines(file);
+            screenshot.complete("screenshots/Results.png");
+            report.step(Status.PASS, "Completed: Click", "Step executed successfully");
+            List<ReportLog.Entry> buffered = report.finish();
+
+            // Then: nothing waits for the end of the scenario, and the screenshot follows its write
+            assertEquals(2, running.size());
+            assertTrue(buffered.isEmpty());
+            assertEquals(5, report.getRecordCount());
+        }
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            records.add(MAPPER.readTree(line));
+        }
+        assertEquals(List.of("TEST_START", "STEP", "SCREENSHOT", "STEP", "TEST_END"),
+            records.stream().map(record -> record.get("type").asText()).toList());
+        assertEquals("screenshots/Results.png", records.get(2).get("message").asText());
+        assertTrue(records.stream().allMatch(record -> record.get("test").asLong() == 3));
+    }
+
+    @Test
+    @DisplayName("Should attach screenshots once they are written")
+    void shouldResolvePendingScreenshots() {
+        // Given
+        ScenarioReport report = new ScenarioReport(7, "checkout");
+        CompletableFuture<String> written = new CompletableFuture<>();
+        CompletableFuture<String> stuck = new CompletableFuture<>();
+        report.screenshot("AssertionFail", written);
+        report.screenshot("Slow", stuck);
+
+        // When
+        written.complete("screenshots/AssertionFail.png");
+        report.awaitScreenshots(50);
+        List<ReportLog.Entry> entries = report.finish();
+
+        // Then
+        assertEquals("SCREENSHOT", entries.get(1).type());
+        assertEquals("screenshots/AssertionFail.png", entries.get(1).message());
+        assertEquals("LOG", entries.get(2).type());
+        assertEquals("WARNING", entries.get(2).status());
+        assertEquals("TEST_END", entries.get(3).type());
+    }
+}
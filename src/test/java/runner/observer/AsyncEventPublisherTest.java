@@ -0,0 +1,207 @@
+package runner.observer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import runner.TestBase;
+import runner.observer.TestExecutionEvent.EventType;
+import runner.observer.TestExecutionEventPublisher.OverflowPolicy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Async TestExecutionEventPublisher Tests")
+class AsyncEventPublisherTest extends TestBase {
+
+    private TestExecutionEventPublisher publisher;
+
+    @Override
+    protected void tearDownTest() {
+        if (publisher != null) {
+            publisher.clearObservers();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not make the publisher wait for a slow observer")
+    void shouldDeliverOffThePublishingThread() {
+        // Given
+        publisher = new TestExecutionEventPublisher(64, OverflowPolicy.BLOCK, 1, 5_000);
+        RecordingObserver slowObserver = new RecordingObserver(20, null);
+        publisher.addObserver(slowObserver);
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            publisher.publishEvent(new TestExecutionEvent(EventType.STEP_STARTED, null, i, null));
+        }
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertTrue(publishMillis < 150, "Publishing waited " + publishMillis + "ms for the observer");
+        assertTrue(publisher.flush());
+        assertEquals(10, slowObserver.events.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, slowObserver.events.get(i).getStepIndex());
+        }
+        assertFalse(slowObserver.threads.contains(Thread.currentThread().getName()));
+        assertEquals(0, publisher.getQueueDepth());
+        assertEquals(0, publisher.getDroppedEvents());
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest events when the queue is full")
+    void shouldDropOldestEvents() throws Exception {
+        // Given
+        publisher = new TestExecutionEventPublisher(2, OverflowPolicy.DROP_OLDEST, 1, 5_000);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingObserver blockedObserver = new RecordingObserver(0, release);
+        publisher.addObserver(blockedObserver);
+        publisher.publishScenarioStarted("blocked");
+        assertTrue(blockedObserver.entered.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            publisher.publishEvent(new TestExecutionEvent(EventType.STEP_STARTED, null, i, null));
+        }
+        int depth = publisher.getQueueDepth();
+        release.countDown();
+
+        // Then
+        assertTrue(publisher.flush());
+        assertEquals(2, depth);
+        assertEquals(8, publisher.getDroppedEvents());
+        assertEquals(List.of(8, 9), blockedObserver.events.stream()
+            .filter(event -> event.getEventType() == EventType.STEP_STARTED)
+            .map(TestExecutionEvent::getStepIndex)
+            .toList());
+        assertEquals(2, publisher.getQueueStats().get(0).getMaxQueueDepth());
+    }
+
+    @Test
+    @DisplayName("Should sample steps but keep scenario events under pressure")
+    void shouldSampleStepsUnderPressure() throws Exception {
+        // Given
+        publisher = new TestExecutionEventPublisher(8, OverflowPolicy.SAMPLE, 4, 5_000);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingObserver blockedObserver = new RecordingObserver(0, release);
+        publisher.addObserver(blockedObserver);
+        publisher.publishScenarioStarted("sampled");
+        assertTrue(blockedObserver.entered.await(5, TimeUnit.SECONDS));
+
+        // When: the first 4 steps fill half the queue, then only every 4th step is kept
+        for (int i = 1; i <= 12; i++) {
+            publisher.publishEvent(new TestExecutionEvent(EventType.STEP_STARTED, null, i, null));
+        }
+        publisher.publishScenarioCompleted("sampled");
+        release.countDown();
+
+        // Then
+        assertTrue(publisher.flush());
+        assertEquals(6, publisher.getDroppedEvents());
+        assertEquals(List.of(1, 2, 3, 4, 8, 12), blockedObserver.events.stream()
+            .filter(event -> event.getEventType() == EventType.STEP_STARTED)
+            .map(TestExecutionEvent::getStepIndex)
+            .toList());
+        assertEquals(EventType.SCENARIO_COMPLETED, blockedObserver.events.get(blockedObserver.events.size() - 1).getEventType());
+    }
+
+    @Test
+    @DisplayName("Should flush only the events of the calling thread")
+    void shouldFlushOnlyOwnEvents() throws Exception {
+        // Given: an observer that is stuck on the events of another scenario thread
+        publisher = new TestExecutionEventPublisher(64, OverflowPolicy.BLOCK, 1, 2_000);
+        Thread testThread = Thread.currentThread();
+        CountDownLatch otherEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        publisher.addObserver(new TestExecutionObserver() {
+            @Override
+            public void onEvent(TestExecutionEvent event) {
+                if (event.getThreadId() != testThread.getId()) {
+                    otherEntered.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                delivered.add(event.getMessage());
+            }
+        });
+        publisher.publishScenarioStarted("own");
+        Thread other = new Thread(() -> {
+            for (int i = 0; i < 5; i++) {
+                publisher.publishScenarioStarted("other " + i);
+            }
+        });
+        other.start();
+        other.join();
+        assertTrue(otherEntered.await(5, TimeUnit.SECONDS));
+
+        // When
+        boolean flushed = publisher.flush();
+        release.countDown();
+
+        // Then
+        assertTrue(flushed);
+        assertEquals("own", delivered.get(0));
+    }
+
+    @Test
+    @DisplayName("Should keep thread-bound observers on the publishing thread")
+    void shouldNotifyThreadBoundObserversSynchronously() {
+        // Given
+        publisher = new TestExecutionEventPublisher(16, OverflowPolicy.BLOCK, 1, 5_000);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        publisher.addObserver(new TestExecutionObserver() {
+            @Override
+            public void onEvent(TestExecutionEvent event) {
+                threads.add(Thread.currentThread().getName());
+            }
+
+            @Override
+            public boolean supportsAsyncDelivery() {
+                return false;
+            }
+        });
+
+        // When
+        publisher.publishScenarioStarted("thread-bound");
+
+        // Then
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+        assertTrue(publisher.getQueueStats().isEmpty());
+    }
+
+    private static class RecordingObserver implements TestExecutionObserver {
+        private final List<TestExecutionEvent> events = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final long delayMillis;
+        private final CountDownLatch release;
+
+        private RecordingObserver(long delayMillis, CountDownLatch release) {
+            this.delayMillis = delayMillis;
+            this.release = release;
+        }
+
+        @Override
+        public void onEvent(TestExecutionEvent event) {
+            entered.countDown();
+            try {
+                if (release != null) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+}
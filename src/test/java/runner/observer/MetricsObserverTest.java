@@ -0,0 +1,177 @@
+package runner.observer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import runner.TestBase;
+import runner.model.Target;
+import runner.model.step.TestAction;
+import runner.model.step.TestStep;
+import runner.model.step.basic.ClickActionStep;
+import runner.observer.TestExecutionEvent.EventType;
+import runner.observer.impl.MetricsObserver;
+import runner.util.LatencyHistogram;
+import runner.util.LatencyHistogram.LatencyStats;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MetricsObserver Tests")
+class MetricsObserverTest extends TestBase {
+
+    @Test
+    @DisplayName("Should time concurrent scenarios independently")
+    void shouldTimeConcurrentScenariosIndependently() throws Exception {
+        // Given
+        int scenarios = 4;
+        CountDownLatch allStepsStarted = new CountDownLatch(scenarios);
+        ExecutorService executor = Executors.newFixedThreadPool(scenarios);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        // When: steps start 60ms apart and all complete together, so a shared start time would
+        // make every step look as short as the last one
+        for (int i = 0; i < scenarios; i++) {
+            long startDelay = 60L * i;
+            String scenario = "scenario-" + i;
+            futures.add(executor.submit(() -> {
+                TestStep step = ClickActionStep.create(Target.id(scenario));
+                metricsObserver.onEvent(new TestExecutionEvent(EventType.SCENARIO_STARTED, scenario));
+                Thread.sleep(startDelay);
+                long beforeStart = System.nanoTime();
+                metricsObserver.onEvent(new TestExecutionEvent(EventType.STEP_STARTED, step, 0, null));
+                long afterStart = System.nanoTime();
+                allStepsStarted.countDown();
+                allStepsStarted.await();
+                long beforeComplete = System.nanoTime();
+                metricsObserver.onEvent(new TestExecutionEvent(EventType.STEP_COMPLETED, step, 0, null));
+                long afterComplete = System.nanoTime();
+                metricsObserver.onEvent(new TestExecutionEvent(EventType.SCENARIO_COMPLETED, scenario));
+                return new long[]{beforeComplete - afterStart, afterComplete - beforeStart};
+            }));
+        }
+        List<long[]> bounds = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            bounds.add(future.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        MetricsObserver.ExecutionMetrics metrics = metricsObserver.getMetrics();
+        assertEquals(scenarios, metrics.getStepsCompleted());
+        assertEquals(scenarios, metrics.getStepLatency().getCount());
+        for (int i = 0; i < scenarios; i++) {
+            LatencyStats stats = metrics.getLatencyByScenario().get("scenario-" + i);
+            assertNotNull(stats, "Missing histogram for scenario-" + i);
+            assertEquals(1, stats.getCount());
+            long measured = stats.getMaxMicros();
+            long lower = TimeUnit.NANOSECONDS.toMicros(bounds.get(i)[0]) - 1;
+            long upper = TimeUnit.NANOSECONDS.toMicros(bounds.get(i)[1]) + 1;
+            assertTrue(measured >= lower && measured <= upper,
+                "scenario-" + i + " measured " + measured + "us, expected " + lower + "-" + upper + "us");
+        }
+        assertTrue(metrics.getLatencyByScenario().get("scenario-0").getMaxMicros() >= 150_000);
+    }
+
+    @Test
+    @DisplayName("Should key step latency by action and target locator")
+    void shouldKeyLatencyByActionAndTarget() {
+        // Given
+        ClickActionStep login = ClickActionStep.create(Target.css("#login"));
+        login.setAction(TestAction.CLICK);
+        ClickActionStep logout = ClickActionStep.create(Target.css("#logout"));
+        logout.setAction(TestAction.CLICK);
+
+        // When
+        runStep(login, EventType.STEP_COMPLETED);
+        runStep(login, EventType.STEP_COMPLETED);
+        runStep(logout, EventType.STEP_FAILED);
+
+        // Then
+        MetricsObserver.ExecutionMetrics metrics = metricsObserver.getMetrics();
+        assertEquals(3, metrics.getLatencyByAction().get("CLICK").getCount());
+        assertEquals(2, metrics.getLatencyByTarget().get("css=#login").getCount());
+        assertEquals(1, metrics.getLatencyByTarget().get("css=#logout").getCount());
+        assertEquals(2, metrics.getStepsCompleted());
+        assertEquals(1, metrics.getStepsFailed());
+    }
+
+    @Test
+    @DisplayName("Should record steps of targets beyond the key limit in one overflow histogram")
+    void shouldCapLatencyKeys() {
+        // Given
+        MetricsObserver observer = new MetricsObserver(3);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            ClickActionStep step = ClickActionStep.create(Target.id("row-" + i));
+            step.setAction(TestAction.CLICK);
+            observer.onEvent(new TestExecutionEvent(EventType.STEP_STARTED, step, 0, null));
+            observer.onEvent(new TestExecutionEvent(EventType.STEP_COMPLETED, step, 0, null));
+        }
+
+        // Then
+        Map<String, LatencyStats> byTarget = observer.getMetrics().getLatencyByTarget();
+        assertEquals(3, byTarget.size());
+        assertEquals(8, byTarget.get(MetricsObserver.OTHER_KEY).getCount());
+        assertEquals(10, observer.getMetrics().getStepLatency().getCount());
+    }
+
+    @Test
+    @DisplayName("Should report percentiles within the histogram precision")
+    void shouldReportAccuratePercentiles() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When: 1ms to 1000ms, one sample each
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        // Then
+        LatencyStats stats = histogram.getStats();
+        assertEquals(1000, stats.getCount());
+        assertEquals(500_000, stats.getP50Micros(), 500_000 * 0.07);
+        assertEquals(950_000, stats.getP95Micros(), 950_000 * 0.07);
+        assertEquals(990_000, stats.getP99Micros(), 990_000 * 0.07);
+        assertEquals(1_000_000, stats.getMaxMicros());
+        assertTrue(stats.getP99Micros() <= stats.getMaxMicros());
+    }
+
+    @Test
+    @DisplayName("Should export the histograms as CSV")
+    void shouldExportLatencyCsv(@TempDir Path tempDir) throws Exception {
+        // Given
+        ClickActionStep step = ClickActionStep.create(Target.id("submit"));
+        step.setAction(TestAction.CLICK);
+        metricsObserver.onEvent(new TestExecutionEvent(EventType.SCENARIO_STARTED, "checkout"));
+        runStep(step, EventType.STEP_COMPLETED);
+        metricsObserver.onEvent(new TestExecutionEvent(EventType.SCENARIO_COMPLETED, "checkout"));
+
+        // When
+        Path file = tempDir.resolve("reports/step-latency.csv");
+        metricsObserver.exportLatency(file);
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertEquals("dimension,key,count,p50_ms,p95_ms,p99_ms,max_ms,total_ms", lines.get(0));
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("all,\"all\",1,")));
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("action,\"CLICK\",1,")));
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("target,\"id=submit\",1,")));
+        assertTrue(lines.stream().anyMatch(line -> line.startsWith("scenario,\"checkout\",1,")));
+    }
+
+    private void runStep(TestStep step, EventType outcome) {
+        metricsObserver.onEvent(new TestExecutionEvent(EventType.STEP_STARTED, step, 0, null));
+        metricsObserver.onEvent(new TestExecutionEvent(outcome, step, 0, null));
+    }
+}
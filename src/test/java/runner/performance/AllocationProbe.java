@@ -0,0 +1,53 @@
+package runner.performance;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Measures how many bytes a loop allocates on the calling thread, for the allocation tests
+ */
+final class AllocationProbe {
+
+    private AllocationProbe() {
+    }
+
+    /**
+     * Whether the JVM counts allocated bytes per thread; turns the counters on when it does
+     */
+    static boolean isSupported() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean)
+                || !threadBean.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        return true;
+    }
+
+    /**
+     * Run the loop once and divide what it allocated on this thread by its iterations
+     *
+     * @param loop returns a value derived from its work
+     * @return bytes allocated per iteration, or -1 when the JVM cannot tell
+     */
+    static double bytesPerOp(int iterations, LongSupplier loop) {
+        if (!isSupported()) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        long result = loop.getAsLong();
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        keepAlive(result);
+        return (double) allocated / iterations;
+    }
+
+    /**
+     * Use a loop result so the JIT cannot drop the work that produced it
+     */
+    static void keepAlive(long result) {
+        assertNotEquals(Long.MIN_VALUE, result);
+    }
+}
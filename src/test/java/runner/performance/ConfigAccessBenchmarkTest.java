@@ -0,0 +1,81 @@
+package runner.performance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import runner.TestBase;
+import runner.config.ConfigSnapshot;
+import runner.config.TestConfiguration;
+
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("performance")
+@DisplayName("Configuration Access Benchmark Tests")
+class ConfigAccessBenchmarkTest extends TestBase {
+
+    private static final int READS = 5_000_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    @DisplayName("Should read hot-path settings from the snapshot faster than by parsing properties")
+    void shouldReadSnapshotFasterThanProperties() {
+        // Given
+        TestConfiguration config = TestConfiguration.getInstance();
+        ConfigSnapshot snapshot = TestConfiguration.current();
+        assertEquals(config.getIntProperty("explicit.wait.seconds", 10), snapshot.explicitWaitSeconds());
+        assertEquals(config.getBooleanProperty("wait.poll.adaptive.enabled", true), snapshot.adaptivePollingEnabled());
+        assertEquals(config.getIntProperty("wait.poll.max.millis", 1000), snapshot.pollMaxMillis());
+
+        // When: best of several rounds, after the first rounds warm up the JIT
+        double propertyNanos = bestNanosPerRead(this::readProperties);
+        double snapshotNanos = bestNanosPerRead(this::readSnapshot);
+        double snapshotBytesPerRead = AllocationProbe.bytesPerOp(READS, this::readSnapshot);
+
+        // Then
+        System.out.printf("Hot-path config reads: properties %.2f ns/read, snapshot %.2f ns/read, snapshot allocated %.0f bytes%n",
+            propertyNanos, snapshotNanos, snapshotBytesPerRead * READS);
+        assertTrue(snapshotNanos < propertyNanos,
+            String.format("Snapshot reads took %.2f ns, property reads %.2f ns", snapshotNanos, propertyNanos));
+        if (snapshotBytesPerRead >= 0) {
+            assertTrue(snapshotBytesPerRead * READS < 1024, "Snapshot reads allocated " + snapshotBytesPerRead * READS + " bytes");
+        }
+    }
+
+    /**
+     * What each step paid before: one property lookup and parse per setting
+     */
+    private long readProperties() {
+        TestConfiguration config = TestConfiguration.getInstance();
+        long sum = 0;
+        for (int i = 0; i < READS; i++) {
+            sum += config.getIntProperty("explicit.wait.seconds", 10);
+            sum += config.getBooleanProperty("wait.poll.adaptive.enabled", true) ? 1 : 0;
+            sum += config.getIntProperty("wait.poll.max.millis", 1000);
+        }
+        return sum;
+    }
+
+    private long readSnapshot() {
+        long sum = 0;
+        for (int i = 0; i < READS; i++) {
+            ConfigSnapshot config = TestConfiguration.current();
+            sum += config.explicitWaitSeconds();
+            sum += config.adaptivePollingEnabled() ? 1 : 0;
+            sum += config.pollMaxMillis();
+        }
+        return sum;
+    }
+
+    private double bestNanosPerRead(LongSupplier loop) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long result = loop.getAsLong();
+            best = Math.min(best, System.nanoTime() - start);
+            AllocationProbe.keepAlive(result);
+        }
+        return (double) best / READS;
+    }
+}
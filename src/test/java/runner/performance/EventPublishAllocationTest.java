@@ -0,0 +1,146 @@
+package runner.performance;
+
+import org.junit.jupiter.api.*;
+import runner.TestBase;
+import runner.model.Target;
+import runner.model.step.TestStep;
+import runner.model.step.basic.ClickActionStep;
+import runner.observer.TestExecutionEvent;
+import runner.observer.TestExecutionEvent.EventType;
+import runner.observer.TestExecutionEventPublisher;
+import runner.observer.TestExecutionObserver;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Tag("performance")
+@DisplayName("Event Publish Allocation Tests")
+class EventPublishAllocationTest extends TestBase {
+
+    private static final int STEPS = 100_000;
+
+    private final TestStep step = ClickActionStep.create(Target.id("submit"));
+    private TestExecutionEventPublisher publisher;
+
+    @BeforeAll
+    static void enableAllocationTracking() {
+        assumeTrue(AllocationProbe.isSupported(), "Per-thread allocation counters are not available on this JVM");
+    }
+
+    @Override
+    protected void setUpTest() {
+        publisher = new TestExecutionEventPublisher();
+    }
+
+    @Test
+    @DisplayName("Should not allocate step events when no observer is registered")
+    void shouldSkipEventsWithoutObservers() {
+        // Given
+        warmUp();
+
+        // When
+        double unguardedBytes = AllocationProbe.bytesPerOp(STEPS, this::publishUnguarded);
+        double guardedBytes = AllocationProbe.bytesPerOp(STEPS, this::publishGuarded);
+
+        // Then
+        System.out.printf("Step events without observers: unguarded %.1f bytes/step, guarded %.2f bytes/step%n",
+            unguardedBytes, guardedBytes);
+        assertTrue(unguardedBytes >= 32, "Expected the unguarded path to allocate, got " + unguardedBytes);
+        assertTrue(guardedBytes < 1.0, "Guarded publishing allocated " + guardedBytes + " bytes per step");
+    }
+
+    @Test
+    @DisplayName("Should not allocate step events for observers that only want scenario events")
+    void shouldSkipEventsNoObserverWants() {
+        // Given
+        CountingObserver scenarioObserver = new CountingObserver(false);
+        publisher.addObserver(scenarioObserver);
+        warmUp();
+
+        // When
+        double guardedBytes = AllocationProbe.bytesPerOp(STEPS, this::publishGuarded);
+
+        // Then
+        System.out.printf("Step events for a scenario-only observer: %.2f bytes/step%n", guardedBytes);
+        assertFalse(publisher.isInterested(EventType.STEP_STARTED));
+        assertTrue(publisher.isInterested(EventType.SCENARIO_STARTED));
+        assertTrue(guardedBytes < 1.0, "Guarded publishing allocated " + guardedBytes + " bytes per step");
+        assertEquals(0, scenarioObserver.count);
+    }
+
+    @Test
+    @DisplayName("Should allocate only the event itself when an observer listens")
+    void shouldAllocateOnlyTheEvent() {
+        // Given
+        CountingObserver stepObserver = new CountingObserver(true);
+        publisher.addObserver(stepObserver);
+        warmUp();
+
+        // When: two events per step
+        double guardedBytes = AllocationProbe.bytesPerOp(STEPS, this::publishGuarded);
+        double wallClockBytes = AllocationProbe.bytesPerOp(STEPS, () -> {
+            int hash = 0;
+            for (int i = 0; i < STEPS; i++) {
+                hash += java.time.LocalDateTime.now().getNano();
+            }
+            return hash;
+        });
+
+        // Then
+        System.out.printf("Step events with a listening observer: %.1f bytes/step "
+            + "(LocalDateTime.now() alone: %.1f bytes)%n", guardedBytes, wallClockBytes);
+        assertTrue(stepObserver.count >= 2L * STEPS);
+        assertTrue(guardedBytes <= 2 * 80, "Publishing allocated " + guardedBytes + " bytes per step");
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < 3; i++) {
+            publishUnguarded();
+            publishGuarded();
+        }
+    }
+
+    private int publishUnguarded() {
+        int hash = 0;
+        for (int i = 0; i < STEPS; i++) {
+            String stepInfo = String.format("Step %d: %s (%s)", i + 1, "Unnamed Step", step.getClass().getSimpleName());
+            TestExecutionEvent event = new TestExecutionEvent(EventType.STEP_STARTED, step, i, stepInfo);
+            publisher.publishEvent(event);
+            hash += event.getStepIndex();
+        }
+        return hash;
+    }
+
+    private int publishGuarded() {
+        int hash = 0;
+        for (int i = 0; i < STEPS; i++) {
+            if (publisher.isInterested(EventType.STEP_STARTED)) {
+                publisher.publishEvent(new TestExecutionEvent(EventType.STEP_STARTED, step, i, "Step started"));
+            }
+            if (publisher.isInterested(EventType.STEP_COMPLETED)) {
+                publisher.publishEvent(new TestExecutionEvent(EventType.STEP_COMPLETED, step, i, "Step executed successfully"));
+            }
+            hash += i;
+        }
+        return hash;
+    }
+
+    private static class CountingObserver implements TestExecutionObserver {
+        private final boolean wantsSteps;
+        private long count;
+
+        private CountingObserver(boolean wantsSteps) {
+            this.wantsSteps = wantsSteps;
+        }
+
+        @Override
+        public void onEvent(TestExecutionEvent event) {
+            count++;
+        }
+
+        @Override
+        public boolean shouldNotify(EventType eventType) {
+            return wantsSteps || eventType.name().startsWith("SCENARIO");
+        }
+    }
+}
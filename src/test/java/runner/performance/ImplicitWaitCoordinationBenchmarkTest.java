@@ -0,0 +1,80 @@
+package runner.performance;
+
+import org.junit.jupiter.api.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import runner.TestBase;
+import runner.config.ConfigurationBuilder;
+import runner.config.TestConfiguration;
+import runner.model.Target;
+import runner.util.ElementFinder;
+import runner.util.ImplicitWaitCoordinator;
+import runner.util.WebDriverWaitUtil;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("performance")
+@DisplayName("Implicit Wait Coordination Benchmark")
+class ImplicitWaitCoordinationBenchmarkTest extends TestBase {
+
+    private static final Duration IMPLICIT_WAIT = Duration.ofMillis(300);
+    private static final int NEGATIVE_CHECKS = 5;
+
+    private WebDriver driver;
+    private final AtomicReference<Duration> implicitWait = new AtomicReference<>(IMPLICIT_WAIT);
+
+    @Override
+    protected void setUpTest() {
+        // A driver without JavaScript whose lookups of absent elements block for the implicit wait
+        driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        when(driver.manage().timeouts().implicitlyWait(any())).thenAnswer(invocation -> {
+            implicitWait.set(invocation.getArgument(0));
+            return null;
+        });
+        when(driver.findElement(any(By.class))).thenAnswer(invocation -> {
+            Thread.sleep(implicitWait.get().toMillis());
+            throw new NoSuchElementException("absent");
+        });
+        ImplicitWaitCoordinator.register(driver, IMPLICIT_WAIT);
+    }
+
+    @Override
+    protected void tearDownTest() {
+        ImplicitWaitCoordinator.unregister(driver);
+        System.clearProperty("test.wait.coordination.enabled");
+        TestConfiguration.getInstance("test");
+    }
+
+    @Test
+    @DisplayName("Negative checks should not block for the implicit wait")
+    void coordinatedNegativeChecksShouldReturnImmediately() {
+        // When
+        ConfigurationBuilder.forEnvironment("test").waitCoordination(false).build();
+        long uncoordinated = runNegativeChecks();
+        ConfigurationBuilder.forEnvironment("test").waitCoordination(true).build();
+        long coordinated = runNegativeChecks();
+
+        // Then
+        System.out.printf("%d INVISIBLE waits + presence probes: implicit wait stacked %d ms, coordinated %d ms (saved %d ms)%n",
+            NEGATIVE_CHECKS, uncoordinated, coordinated, uncoordinated - coordinated);
+        assertTrue(uncoordinated >= NEGATIVE_CHECKS * 2 * IMPLICIT_WAIT.toMillis());
+        assertTrue(coordinated < uncoordinated / 4, "Coordinated checks took " + coordinated + " ms");
+        assertEquals(IMPLICIT_WAIT, implicitWait.get(), "Implicit wait should be restored");
+    }
+
+    private long runNegativeChecks() {
+        ElementFinder finder = ElementFinder.using(driver);
+        long start = System.nanoTime();
+        for (int i = 0; i < NEGATIVE_CHECKS; i++) {
+            assertTrue(WebDriverWaitUtil.waitForInvisibility(driver, Target.css(".spinner"), 5));
+            assertFalse(finder.isElementPresent(Target.id("error-banner")));
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,141 @@
+package runner.performance;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.Status;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import runner.TestBase;
+import runner.manager.ReportLog;
+import runner.manager.ScenarioReport;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("performance")
+@DisplayName("Report Publish Stress Tests")
+class ReportPublishStressTest extends TestBase {
+
+    private static final int SCENARIOS = 64;
+    private static final int STEPS = 40;
+    // Stands in for the browser round trip of a step
+    private static final long STEP_WORK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8};
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should scale Extent publishing with threads without losing or mixing nodes")
+    void shouldScaleExtentPublishing() throws Exception {
+        Map<Integer, Double> throughput = new LinkedHashMap<>();
+        for (int threads : THREAD_COUNTS) {
+            // Given
+            ExtentReports extent = new ExtentReports();
+
+            // When
+            throughput.put(threads, run(threads, id -> new ScenarioReport(id, "Scenario " + id),
+                report -> report.publishTo(extent)));
+
+            // Then
+            List<com.aventstack.extentreports.model.Test> tests = extent.getReport().getTestList();
+            assertEquals(SCENARIOS, tests.size(), "Lost tests with " + threads + " threads");
+            for (com.aventstack.extentreports.model.Test test : tests) {
+                String prefix = test.getName() + " step ";
+                assertEquals(STEPS, test.getChildren().size(), "Lost nodes in " + test.getName());
+                for (int step = 0; step < STEPS; step++) {
+                    assertEquals(prefix + step, test.getChildren().get(step).getName());
+                }
+            }
+        }
+
+        printAndCheckScaling("Extent", throughput);
+    }
+
+    @Test
+    @DisplayName("Should scale report log streaming with threads without losing or reordering records")
+    void shouldScaleReportLogPublishing(@TempDir Path tempDir) throws Exception {
+        Map<Integer, Double> throughput = new LinkedHashMap<>();
+        for (int threads : THREAD_COUNTS) {
+            // Given
+            Path file = tempDir.resolve("report-" + threads + ".ndjson");
+
+            // When
+            try (ReportLog reportLog = ReportLog.open(file, 256)) {
+                throughput.put(threads, run(threads, id -> new ScenarioReport(id, "Scenario " + id, reportLog),
+                    ScenarioReport::finish));
+            }
+
+            // Then: records of concurrent scenarios interleave, but each scenario's stay in order
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(SCENARIOS * (STEPS + 2), lines.size(), "Lost records with " + threads + " threads");
+            Map<Long, Integer> steps = new HashMap<>();
+            for (String line : lines) {
+                JsonNode record = MAPPER.readTree(line);
+                long test = record.get("test").asLong();
+                switch (record.get("type").asText()) {
+                    case "TEST_START" -> assertNull(steps.put(test, 0), "Scenario " + test + " started twice");
+                    case "STEP" -> {
+                        int step = steps.merge(test, 1, Integer::sum) - 1;
+                        assertEquals("Scenario " + test + " step " + step, record.get("name").asText());
+                    }
+                    case "TEST_END" -> assertEquals(STEPS, steps.remove(test), "Scenario " + test + " ended early");
+                    default -> fail("Unexpected record " + line);
+                }
+            }
+            assertTrue(steps.isEmpty(), "Scenarios without an end: " + steps.keySet());
+        }
+
+        printAndCheckScaling("Report log", throughput);
+    }
+
+    /**
+     * Run all scenarios on a pool of the given size
+     * @return scenarios per second
+     */
+    private double run(int threads, LongFunction<ScenarioReport> reports, Consumer<ScenarioReport> publisher)
+            throws InterruptedException {
+        AtomicLong ids = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        for (int i = 0; i < SCENARIOS; i++) {
+            executor.submit(() -> {
+                long id = ids.incrementAndGet();
+                ScenarioReport report = reports.apply(id);
+                for (int step = 0; step < STEPS; step++) {
+                    LockSupport.parkNanos(STEP_WORK_NANOS);
+                    report.step(Status.PASS, "Scenario " + id + " step " + step, "Step executed successfully");
+                }
+                publisher.accept(report);
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return SCENARIOS / seconds;
+    }
+
+    private void printAndCheckScaling(String target, Map<Integer, Double> throughput) {
+        StringBuilder line = new StringBuilder(target).append(" publishing:");
+        throughput.forEach((threads, rate) -> line.append(String.format(" %d threads %.0f scenarios/s,", threads, rate)));
+        System.out.println(line.substring(0, line.length() - 1));
+
+        double speedup = throughput.get(4) / throughput.get(1);
+        assertTrue(speedup >= 2.0, String.format("%s publishing only scaled %.2fx from 1 to 4 threads", target, speedup));
+    }
+}
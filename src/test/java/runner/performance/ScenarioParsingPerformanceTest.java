@@ -0,0 +1,113 @@
+package runner.performance;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import runner.TestBase;
+import runner.model.step.TestStep;
+import runner.util.ScenarioReader;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("performance")
+@DisplayName("Scenario Parsing Performance Tests")
+class ScenarioParsingPerformanceTest extends TestBase {
+
+    private static final int STEP_COUNT = 2_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    private static byte[] largeScenario;
+
+    @BeforeAll
+    static void createLargeScenario() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < STEP_COUNT; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            switch (i % 4) {
+                case 0 -> json.append("{\"action\":\"NAVIGATE\",\"name\":\"Navigate ").append(i)
+                    .append("\",\"url\":\"https://example.com/page/").append(i).append("\"}");
+                case 1 -> json.append("{\"action\":\"CLICK\",\"name\":\"Click ").append(i)
+                    .append("\",\"target\":{\"by\":\"id\",\"value\":\"button-").append(i).append("\"}}");
+                case 2 -> json.append("{\"action\":\"SEND_VALUE\",\"name\":\"Type ").append(i)
+                    .append("\",\"target\":{\"by\":\"css\",\"value\":\"#input-").append(i)
+                    .append("\"},\"value\":\"value-").append(i).append("\"}");
+                default -> json.append("{\"action\":\"WAIT\",\"name\":\"Wait ").append(i).append("\",\"timeout\":1}");
+            }
+        }
+        largeScenario = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Shared reader and content cache should parse faster than a new mapper per scenario")
+    void sharedReaderShouldOutperformNewMapperPerScenario() throws Exception {
+        // Given
+        ScenarioReader.prewarm();
+
+        // When
+        double newMapperMillis = measure(() -> new ObjectMapper()
+            .readValue(largeScenario, new TypeReference<List<TestStep>>() {
+            }).size());
+        double sharedReaderMillis = measure(() -> {
+            ScenarioReader.clearCache();
+            return ScenarioReader.parse(largeScenario).size();
+        });
+        ScenarioReader.parse(largeScenario);
+        double cachedMillis = measure(() -> ScenarioReader.parse(largeScenario).size());
+
+        // Then
+        System.out.printf("Parsing %d steps: new mapper %.2fms, shared reader %.2fms, cached %.2fms%n",
+            STEP_COUNT, newMapperMillis, sharedReaderMillis, cachedMillis);
+        assertEquals(STEP_COUNT, ScenarioReader.parse(largeScenario).size());
+        assertTrue(sharedReaderMillis <= newMapperMillis,
+            "Shared reader (" + sharedReaderMillis + "ms) was slower than a new mapper (" + newMapperMillis + "ms)");
+        assertTrue(cachedMillis < sharedReaderMillis,
+            "Cached parse (" + cachedMillis + "ms) was not faster than parsing (" + sharedReaderMillis + "ms)");
+    }
+
+    @Test
+    @DisplayName("Cached scenarios should be returned for identical content")
+    void shouldReturnCachedStepsForIdenticalContent() throws Exception {
+        // Given
+        ScenarioReader.clearCache();
+        long hitsBefore = ScenarioReader.getCacheHits();
+
+        // When
+        List<TestStep> first = ScenarioReader.parse(largeScenario);
+        List<TestStep> second = ScenarioReader.parse(largeScenario.clone());
+
+        // Then
+        assertSame(first, second);
+        assertEquals(hitsBefore + 1, ScenarioReader.getCacheHits());
+        assertThrows(UnsupportedOperationException.class, () -> second.remove(0));
+    }
+
+    /**
+     * Average milliseconds per call after a short warm-up
+     */
+    private double measure(ParseOperation operation) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+
+        long start = System.nanoTime();
+        int steps = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            steps += operation.run();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(STEP_COUNT * MEASURED_ITERATIONS, steps);
+        return elapsed / 1_000_000.0 / MEASURED_ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface ParseOperation {
+        int run() throws Exception;
+    }
+}
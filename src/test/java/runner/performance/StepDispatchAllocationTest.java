@@ -0,0 +1,69 @@
+package runner.performance;
+
+import org.junit.jupiter.api.*;
+import runner.TestBase;
+import runner.executor.ActionExecutor;
+import runner.executor.ActionRegistry;
+import runner.model.step.TestAction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Tag("performance")
+@DisplayName("Step Dispatch Allocation Tests")
+class StepDispatchAllocationTest extends TestBase {
+
+    private static final int DISPATCHES = 100_000;
+
+    @BeforeAll
+    static void enableAllocationTracking() {
+        assumeTrue(AllocationProbe.isSupported(), "Per-thread allocation counters are not available on this JVM");
+    }
+
+    @Test
+    @DisplayName("Shared executors should remove per-step allocation from dispatch")
+    void sharedExecutorsShouldNotAllocatePerStep() {
+        // Given
+        TestAction[] actions = TestAction.values();
+        warmUp(actions);
+
+        // When
+        double newInstanceBytes = AllocationProbe.bytesPerOp(DISPATCHES, () -> {
+            int hash = 0;
+            for (int i = 0; i < DISPATCHES; i++) {
+                hash += System.identityHashCode(actions[i % actions.length].createExecutor());
+            }
+            return hash;
+        });
+        double sharedBytes = AllocationProbe.bytesPerOp(DISPATCHES, () -> {
+            int hash = 0;
+            for (int i = 0; i < DISPATCHES; i++) {
+                hash += System.identityHashCode(actions[i % actions.length].executor());
+            }
+            return hash;
+        });
+
+        // Then
+        System.out.printf("Executor lookup: new instance %.1f bytes/step, shared %.2f bytes/step%n",
+            newInstanceBytes, sharedBytes);
+        assertTrue(newInstanceBytes >= 8, "Expected the baseline to allocate, got " + newInstanceBytes);
+        assertTrue(sharedBytes < 1.0, "Shared executor lookup allocated " + sharedBytes + " bytes per step");
+    }
+
+    @Test
+    @DisplayName("Should return the same executor for every lookup")
+    void shouldReturnSameExecutorInstance() {
+        for (TestAction action : TestAction.values()) {
+            ActionExecutor<?> first = action.executor();
+            assertSame(first, action.executor(), "Executor for " + action + " should be shared");
+            assertSame(first, ActionRegistry.get(action.name()));
+        }
+    }
+
+    private void warmUp(TestAction[] actions) {
+        for (int i = 0; i < DISPATCHES; i++) {
+            actions[i % actions.length].executor();
+            actions[i % actions.length].createExecutor();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package runner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import runner.TestBase;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("AdaptivePollPolicy Tests")
+class AdaptivePollPolicyTest extends TestBase {
+
+    @Override
+    protected void tearDownTest() {
+        // Learned wait times are global, so tests must not see each other's history
+        AdaptivePollPolicy.reset();
+    }
+
+    @Test
+    @DisplayName("Should back off exponentially with jitter up to the cap")
+    void shouldBackOffExponentially() {
+        // Given
+        AdaptivePollPolicy.Tracker tracker = AdaptivePollPolicy.start(null, 100);
+
+        // When
+        List<Long> delays = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            delays.add(tracker.nextDelayMillis());
+        }
+
+        // Then
+        assertTrue(delays.get(0) <= 10, "First re-check should come early: " + delays);
+        assertTrue(delays.get(3) > delays.get(0), "Interval should grow: " + delays);
+        delays.forEach(delay -> assertTrue(delay <= 120, "Interval should respect the cap: " + delays));
+    }
+
+    @Test
+    @DisplayName("Should sleep ahead to the learned typical wait time")
+    void shouldSkipAheadForSlowLocators() throws InterruptedException {
+        // Given
+        AdaptivePollPolicy.Tracker first = AdaptivePollPolicy.start("css=.report-ready");
+        Thread.sleep(300);
+        first.complete(true);
+
+        // When
+        long firstDelay = AdaptivePollPolicy.start("css=.report-ready").nextDelayMillis();
+
+        // Then
+        long typical = AdaptivePollPolicy.getTypicalWaitMillis("css=.report-ready");
+        assertTrue(typical >= 300, "Typical wait should be learned: " + typical);
+        assertTrue(firstDelay >= typical * 0.7 && firstDelay <= typical, "Should sleep ahead, got " + firstDelay);
+    }
+
+    @Test
+    @DisplayName("Should report the polls of a completed wait")
+    void shouldResolveFastWaitsEarly() {
+        // Given
+        List<Integer> reportedPolls = new ArrayList<>();
+        AdaptivePollPolicy.WaitListener listener = (key, polls, elapsed, satisfied) -> {
+            if ("id=toast".equals(key)) {
+                reportedPolls.add(polls);
+            }
+        };
+        AdaptivePollPolicy.addListener(listener);
+        AdaptiveWait wait = new AdaptiveWait(mock(WebDriver.class), Duration.ofSeconds(5), "id=toast");
+        long readyAt = System.currentTimeMillis() + 50;
+        AtomicInteger evaluations = new AtomicInteger();
+
+        // When
+        try {
+            wait.until(driver -> evaluations.incrementAndGet() > 0 && System.currentTimeMillis() >= readyAt);
+        } finally {
+            AdaptivePollPolicy.removeListener(listener);
+        }
+
+        // Then
+        assertEquals(List.of(evaluations.get()), reportedPolls);
+        assertEquals(evaluations.get(), wait.getPolls());
+    }
+
+    @Test
+    @DisplayName("Should report timed out polling waits")
+    void shouldRecordTimeouts() {
+        // Given
+        Thread testThread = Thread.currentThread();
+        List<Integer> reportedPolls = new ArrayList<>();
+        List<Boolean> outcomes = new ArrayList<>();
+        AdaptivePollPolicy.WaitListener listener = (key, polls, elapsed, satisfied) -> {
+            if (Thread.currentThread() == testThread) {
+                reportedPolls.add(polls);
+                outcomes.add(satisfied);
+            }
+        };
+        AdaptivePollPolicy.addListener(listener);
+
+        // When
+        boolean satisfied;
+        try {
+            satisfied = WebDriverWaitUtil.pollForCondition(ignored -> false, 1, 200);
+        } finally {
+            AdaptivePollPolicy.removeListener(listener);
+        }
+
+        // Then
+        assertFalse(satisfied);
+        assertEquals(List.of(false), outcomes);
+        assertTrue(reportedPolls.get(0) < 20, "A one second wait capped at 200 ms polled " + reportedPolls.get(0) + " times");
+    }
+
+    @Test
+    @DisplayName("Should honour a fixed poll interval set on the wait")
+    void shouldHonourPollingEvery() {
+        // Given
+        AdaptiveWait wait = new AdaptiveWait(mock(WebDriver.class), Duration.ofSeconds(5), null);
+        wait.pollingEvery(Duration.ofMillis(200));
+        AtomicInteger evaluations = new AtomicInteger();
+
+        // When
+        long start = System.nanoTime();
+        wait.until(driver -> evaluations.incrementAndGet() >= 2);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then: an adaptive wait would have re-checked after a few milliseconds
+        assertTrue(elapsedMillis >= 200, "Wait took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("Should honour a timeout changed after the wait was created")
+    void shouldHonourWithTimeout() {
+        // Given
+        WebDriverWait wait = WebDriverWaitUtil.createWait(mock(WebDriver.class), 60);
+        wait.withTimeout(Duration.ofMillis(300));
+
+        // Then
+        assertTimeoutPreemptively(Duration.ofSeconds(30),
+            () -> assertThrows(TimeoutException.class, () -> wait.until(driver -> false)));
+    }
+}
@@ -0,0 +1,89 @@
+package runner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import runner.TestBase;
+import runner.model.Target;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DomWait Tests")
+class DomWaitTest extends TestBase {
+
+    private final WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    private final JavascriptExecutor js = (JavascriptExecutor) driver;
+    private final WebElement element = mock(WebElement.class);
+
+    @Test
+    @DisplayName("Should return the element from the DOM watcher without polling")
+    void shouldReturnElementFromWatcher() {
+        // Given
+        when(js.executeAsyncScript(anyString(), eq("id"), eq("login-button"), eq("VISIBLE"), isNull(), anyLong()))
+            .thenReturn(element);
+
+        // When
+        WebElement found = DomWait.untilElement(driver, Target.id("login-button"), DomWait.Condition.VISIBLE, 5);
+
+        // Then
+        assertSame(element, found);
+        verify(driver, never()).findElement(any());
+    }
+
+    @Test
+    @DisplayName("Should start another watch when one ends without a match")
+    void shouldRewatchUntilSatisfied() {
+        // Given
+        when(js.executeAsyncScript(anyString(), any(), any(), eq("INVISIBLE"), any(), anyLong()))
+            .thenReturn(null, null, true);
+
+        // When
+        boolean invisible = DomWait.untilInvisible(driver, Target.css(".spinner"), 5);
+
+        // Then
+        assertTrue(invisible);
+        verify(js, times(3)).executeAsyncScript(anyString(), any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should fall back to polling when async scripts fail")
+    void shouldFallBackToPolling() {
+        // Given
+        when(js.executeAsyncScript(anyString(), any(), any(), any(), any(), anyLong()))
+            .thenThrow(new JavascriptException("async scripts blocked"));
+        when(driver.findElement(By.id("status")))
+            .thenThrow(new NoSuchElementException("not yet"))
+            .thenReturn(element);
+
+        // When
+        WebElement found = DomWait.untilElement(driver, Target.id("status"), DomWait.Condition.PRESENT, 5);
+
+        // Then
+        assertSame(element, found);
+    }
+
+    @Test
+    @DisplayName("Should time out when the condition never holds")
+    void shouldTimeOut() {
+        // Given
+        WebDriver plainDriver = mock(WebDriver.class);
+        when(plainDriver.findElement(By.id("missing"))).thenThrow(new NoSuchElementException("missing"));
+
+        // When
+        long start = System.nanoTime();
+        assertThrows(TimeoutException.class,
+            () -> DomWait.untilElement(plainDriver, Target.id("missing"), DomWait.Condition.PRESENT, 1));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then: only the lower bound, an upper bound would depend on machine load
+        assertTrue(elapsedMillis >= 1000, "Waited " + elapsedMillis + " ms");
+    }
+}
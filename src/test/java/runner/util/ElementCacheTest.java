@@ -0,0 +1,157 @@
+package runner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import runner.TestBase;
+import runner.config.ConfigurationBuilder;
+import runner.config.TestConfiguration;
+import runner.executor.ActionExecutor;
+import runner.executor.basic.ClickActionExecutor;
+import runner.executor.basic.NavigateActionExecutor;
+import runner.model.Target;
+import runner.model.step.basic.ClickActionStep;
+import runner.model.step.basic.NavigateActionStep;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ElementCache Tests")
+class ElementCacheTest extends TestBase {
+
+    @Mock
+    private WebDriver driver;
+
+    @Mock
+    private WebElement element;
+
+    private final ClickActionExecutor clickExecutor = new ClickActionExecutor();
+
+    @Override
+    protected void setUpTest() {
+        ConfigurationBuilder.forEnvironment("test").elementCache(true).build();
+        ElementCache.open(driver);
+    }
+
+    @Override
+    protected void tearDownTest() {
+        ElementCache.close();
+        System.clearProperty("test.element.cache.enabled");
+        TestConfiguration.getInstance("test");
+    }
+
+    @Test
+    @DisplayName("Should find a repeated target once per scenario")
+    void shouldReuseElementForRepeatedTarget() {
+        // Given
+        when(driver.findElement(By.id("user-name"))).thenReturn(element);
+
+        // When
+        clickExecutor.execute(driver, ClickActionStep.create(Target.id("user-name")));
+        clickExecutor.execute(driver, ClickActionStep.create(Target.id("user-name")));
+
+        // Then
+        verify(driver, times(1)).findElement(By.id("user-name"));
+        verify(element, times(2)).click();
+        ElementCache.ElementCacheStats stats = ElementCache.close();
+        assertEquals(1, stats.getSavedRoundTrips());
+    }
+
+    @Test
+    @DisplayName("Should find the element again after navigation")
+    void shouldInvalidateOnNavigation() {
+        // Given
+        when(driver.findElement(By.id("user-name"))).thenReturn(element);
+        NavigateActionStep navigate = new NavigateActionStep();
+        navigate.setUrl("https://example.com");
+
+        // When
+        clickExecutor.execute(driver, ClickActionStep.create(Target.id("user-name")));
+        new NavigateActionExecutor().execute(driver, navigate);
+        clickExecutor.execute(driver, ClickActionStep.create(Target.id("user-name")));
+
+        // Then
+        verify(driver, times(2)).findElement(By.id("user-name"));
+        assertEquals(1, ElementCache.close().getInvalidations());
+    }
+
+    @Test
+    @DisplayName("Should find a stale cached element again and repeat only the failed call")
+    void shouldRefreshStaleElement() {
+        // Given
+        WebElement freshElement = mock(WebElement.class);
+        when(driver.findElement(By.id("login-button"))).thenReturn(element, freshElement);
+        ClickActionStep click = ClickActionStep.create(Target.id("login-button"));
+        clickExecutor.execute(driver, click);
+        doThrow(new StaleElementReferenceException("detached")).when(element).click();
+
+        // When
+        clickExecutor.execute(driver, click);
+        clickExecutor.execute(driver, click);
+
+        // Then: the fresh element replaced the stale one in the cache
+        verify(freshElement, times(2)).click();
+        verify(driver, times(2)).findElement(By.id("login-button"));
+        ElementCache.ElementCacheStats stats = ElementCache.close();
+        assertEquals(1, stats.getStaleRetries());
+        assertEquals(1, stats.getSavedRoundTrips());
+    }
+
+    @Test
+    @DisplayName("Should not repeat earlier actions of a step when a later element is stale")
+    void shouldNotRepeatStepOnStaleElement() {
+        // Given: a step that types into one element and then clicks another
+        WebElement field = mock(WebElement.class);
+        WebElement freshButton = mock(WebElement.class);
+        when(driver.findElement(By.id("search"))).thenReturn(field);
+        when(driver.findElement(By.id("submit"))).thenReturn(element, freshButton);
+        ActionExecutor<String> search = new ActionExecutor<>() {
+            @Override
+            public void execute(WebDriver driver, String query) {
+                find(driver, Target.id("search")).sendKeys(query);
+                find(driver, Target.id("submit")).click();
+            }
+        };
+        search.execute(driver, "first");
+        doThrow(new StaleElementReferenceException("detached")).when(element).click();
+
+        // When
+        search.execute(driver, "second");
+
+        // Then
+        verify(field, times(1)).sendKeys("second");
+        verify(freshButton).click();
+    }
+
+    @Test
+    @DisplayName("Should keep elements of different windows apart")
+    void shouldKeyElementsByWindow() {
+        // Given
+        WebElement otherWindowElement = mock(WebElement.class);
+        when(driver.findElement(By.id("menu"))).thenReturn(element, otherWindowElement);
+
+        // When
+        clickExecutor.execute(driver, ClickActionStep.create(Target.id("menu")));
+        ElementCache.switchedToWindow(driver, "popup");
+        clickExecutor.execute(driver, ClickActionStep.create(Target.id("menu")));
+
+        // Then
+        verify(element).click();
+        verify(otherWindowElement).click();
+    }
+
+    @Test
+    @DisplayName("Should not cache for a different driver")
+    void shouldIgnoreOtherDrivers() {
+        // Given
+        WebDriver otherDriver = mock(WebDriver.class);
+
+        // Then
+        assertNull(ElementCache.current(otherDriver));
+        assertNotNull(ElementCache.current(driver));
+    }
+}
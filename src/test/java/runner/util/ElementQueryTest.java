@@ -0,0 +1,207 @@
+package runner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import runner.TestBase;
+import runner.model.Target;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ElementQuery Tests")
+class ElementQueryTest extends TestBase {
+
+    private final WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    private final JavascriptExecutor js = (JavascriptExecutor) driver;
+
+    private List<WebElement> givenRows(int count) {
+        List<WebElement> rows = IntStream.range(0, count)
+            .mapToObj(i -> mock(WebElement.class))
+            .collect(Collectors.toList());
+        when(driver.findElements(By.cssSelector("tr"))).thenReturn(rows);
+        return rows;
+    }
+
+    @Test
+    @DisplayName("Should filter all matches with one script call")
+    void shouldFilterInOneRoundTrip() {
+        // Given
+        List<WebElement> rows = givenRows(200);
+        when(js.executeScript(anyString(), eq(rows), anyMap(), eq(false))).thenReturn(List.of(1L, 5L, 199L));
+
+        // When
+        List<WebElement> clickable = ElementFinder.using(driver).findClickableElements(Target.css("tr"));
+
+        // Then
+        assertEquals(List.of(rows.get(1), rows.get(5), rows.get(199)), clickable);
+        verify(js, times(1)).executeScript(anyString(), any(), any(), any());
+        rows.forEach(row -> {
+            verify(row, never()).isDisplayed();
+            verify(row, never()).isEnabled();
+        });
+    }
+
+    @Test
+    @DisplayName("Should stop at the first match for single-element lookups")
+    void shouldAskScriptForFirstMatchOnly() {
+        // Given
+        List<WebElement> rows = givenRows(3);
+        when(js.executeScript(anyString(), eq(rows), anyMap(), eq(true))).thenReturn(List.of(2L));
+
+        // When
+        Optional<WebElement> row = ElementFinder.using(driver).findElementByAttribute(Target.css("tr"), "data-id", "42");
+
+        // Then
+        assertEquals(Optional.of(rows.get(2)), row);
+    }
+
+    @Test
+    @DisplayName("Should fall back to per-element checks when the script fails")
+    void shouldFallBackWhenScriptFails() {
+        // Given
+        List<WebElement> rows = givenRows(2);
+        when(js.executeScript(anyString(), any(), any(), any())).thenThrow(new JavascriptException("CSP"));
+        when(rows.get(0).getAttribute("class")).thenReturn("row selected");
+        when(rows.get(1).getAttribute("class")).thenReturn("row");
+
+        // When
+        List<WebElement> selected = ElementFinder.using(driver).findElementsWithClass(Target.css("tr"), "selected");
+
+        // Then
+        assertEquals(List.of(rows.get(0)), selected);
+    }
+
+    @Test
+    @DisplayName("Should not query drivers without JavaScript support")
+    void shouldSkipDriversWithoutJavaScript() {
+        // Then
+        assertTrue(ElementQuery.forDriver(mock(WebDriver.class)).isEmpty());
+        assertTrue(ElementQuery.forDriver(driver).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should read a whole table with one script call")
+    void shouldSnapshotTableInOneRoundTrip() {
+        // Given
+        WebElement table = mock(WebElement.class);
+        when(driver.findElement(By.id("grid"))).thenReturn(table);
+        when(js.executeScript(anyString(), eq(table), eq(0), eq(-1), eq(List.of("data-id")), eq(false), isNull()))
+            .thenReturn(Map.of(
+                "total", 2L,
+                "text", List.of(List.of("Name", "Price"), List.of("Backpack", "29.99")),
+                "attributes", Map.of("data-id", List.of(List.of("h1", "h2"), List.of("7", "8")))));
+
+        // When
+        TableSnapshot snapshot = ElementFinder.using(driver).snapshotTable(Target.id("grid"), "data-id").orElseThrow();
+
+        // Then
+        assertEquals("29.99", snapshot.getCell(1, 1));
+        assertEquals(List.of("Name", "Backpack"), snapshot.getColumn(0));
+        assertEquals("8", snapshot.getAttribute("data-id", 1, 1));
+        assertFalse(snapshot.hasMoreRows());
+        verify(table, never()).findElements(any());
+    }
+
+    @Test
+    @DisplayName("Should stream table rows chunk by chunk")
+    void shouldIterateTableRowsInChunks() {
+        // Given
+        WebElement table = mock(WebElement.class);
+        when(driver.findElement(By.id("grid"))).thenReturn(table);
+        when(js.executeScript(anyString(), eq(table), anyInt(), eq(2), eq(List.of()), eq(true), any())).thenAnswer(invocation -> {
+            int start = invocation.getArgument(2);
+            List<List<String>> rows = IntStream.range(start, Math.min(start + 2, 5))
+                .mapToObj(i -> List.of("row " + i))
+                .collect(Collectors.toList());
+            return Map.of("total", 5L, "text", rows, "attributes", Map.of());
+        });
+
+        // When
+        List<String> rows = new ArrayList<>();
+        ElementFinder.using(driver).iterateTableRows(Target.id("grid"), 2, 0).forEachRemaining(row -> rows.add(row.get(0)));
+
+        // Then
+        assertEquals(List.of("row 0", "row 1", "row 2", "row 3", "row 4"), rows);
+        verify(js, times(4)).executeScript(anyString(), eq(table), anyInt(), eq(2), eq(List.of()), eq(true), any());
+    }
+
+    @Test
+    @DisplayName("Should resume a virtualized table after the last row key")
+    void shouldResumeVirtualizedTableByRowKey() {
+        // Given: a table that keeps three rows in the DOM; the script returns rows after the key
+        WebElement table = mock(WebElement.class);
+        when(driver.findElement(By.id("grid"))).thenReturn(table);
+        when(js.executeScript(anyString(), eq(table), anyInt(), eq(3), eq(List.of()), eq(true), any())).thenAnswer(invocation -> {
+            String afterKey = invocation.getArgument(6);
+            int first = afterKey == null ? 1 : Integer.parseInt(afterKey) + 1;
+            List<String> keys = IntStream.rangeClosed(first, Math.min(first + 2, 7))
+                .mapToObj(String::valueOf)
+                .collect(Collectors.toList());
+            List<List<String>> rows = keys.stream().map(key -> List.of("row " + key)).collect(Collectors.toList());
+            // Rows scrolled out of view are gone, so the resumed rows start at DOM index 0
+            return Map.of("start", 0L, "total", (long) keys.size(), "text", rows, "keys", keys, "attributes", Map.of());
+        });
+
+        // When
+        List<String> rows = new ArrayList<>();
+        ElementFinder.using(driver).iterateTableRows(Target.id("grid"), 3, 0).forEachRemaining(row -> rows.add(row.get(0)));
+
+        // Then
+        assertEquals(List.of("row 1", "row 2", "row 3", "row 4", "row 5", "row 6", "row 7"), rows);
+    }
+
+    @Test
+    @DisplayName("Should wait for lazily loaded rows the table declares before ending the iteration")
+    void shouldWaitForMoreRowsBeforeEnding() {
+        // Given: aria-rowcount declares three rows, the third shows up on the second read after the first page
+        AtomicInteger reads = new AtomicInteger();
+        TableRowIterator iterator = new TableRowIterator((startRow, afterKey) -> {
+            int read = reads.incrementAndGet();
+            List<List<String>> rows = read == 1 ? List.of(List.of("a"), List.of("b"))
+                : read == 3 ? List.of(List.of("c")) : List.of();
+            return new TableSnapshot(startRow, startRow + rows.size(), rows, List.of(), 3, Map.of());
+        }, 500);
+
+        // When
+        List<String> rows = new ArrayList<>();
+        iterator.forEachRemaining(row -> rows.add(row.get(0)));
+
+        // Then
+        assertEquals(List.of("a", "b", "c"), rows);
+        assertEquals(3, iterator.getNextRowIndex());
+    }
+
+    @Test
+    @DisplayName("Should end at the first empty chunk when the table declares no more rows")
+    void shouldNotWaitForUndeclaredRows() {
+        // Given: a fully rendered table without aria-rowcount, and a long load timeout
+        AtomicInteger reads = new AtomicInteger();
+        TableRowIterator iterator = new TableRowIterator((startRow, afterKey) -> {
+            reads.incrementAndGet();
+            List<List<String>> rows = startRow == 0 ? List.of(List.of("a"), List.of("b")) : List.of();
+            return new TableSnapshot(startRow, 2, rows, Map.of());
+        }, 60_000);
+
+        // When
+        List<String> rows = new ArrayList<>();
+        iterator.forEachRemaining(row -> rows.add(row.get(0)));
+
+        // Then: one read for the rows and one that comes back empty
+        assertEquals(List.of("a", "b"), rows);
+        assertEquals(2, reads.get());
+    }
+}
@@ -0,0 +1,75 @@
+package runner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import runner.TestBase;
+import runner.model.step.TestStep;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScenarioCompiler Tests")
+class ScenarioCompilerTest extends TestBase {
+
+    @TempDir
+    Path tempDir;
+
+    private Path copyScenario(String name) throws IOException {
+        return Files.copy(Paths.get("scenarios", name), tempDir.resolve(name));
+    }
+
+    @Test
+    @DisplayName("Should load the same steps from the compiled form")
+    void shouldRoundTripSampleScenarios() throws IOException {
+        for (String name : List.of("test1.json", "advanced-example.json", "full-selenium-demo.json")) {
+            // Given
+            Path scenario = copyScenario(name);
+            List<TestStep> fromJson = ScenarioReader.read(scenario);
+
+            // When
+            Path compiled = ScenarioCompiler.compile(scenario);
+            Optional<List<TestStep>> fromCompiled = ScenarioCompiler.loadIfFresh(scenario);
+
+            // Then
+            assertTrue(Files.exists(compiled));
+            assertTrue(fromCompiled.isPresent(), "Compiled form of " + name + " should be fresh");
+            assertEquals(fromJson.toString(), fromCompiled.get().toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore the compiled form after the JSON changes")
+    void shouldDetectStaleCompiledScenario() throws IOException {
+        // Given
+        Path scenario = copyScenario("test1.json");
+        ScenarioCompiler.compile(scenario);
+
+        // When
+        Files.writeString(scenario, "[{\"action\": \"NAVIGATE\", \"url\": \"https://example.com\"}]");
+
+        // Then
+        assertTrue(ScenarioCompiler.loadIfFresh(scenario).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should accept a touched file whose content hash still matches")
+    void shouldAcceptTouchedFileWithSameContent() throws IOException {
+        // Given
+        Path scenario = copyScenario("test1.json");
+        ScenarioCompiler.compile(scenario);
+
+        // When
+        Files.setLastModifiedTime(scenario, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        // Then
+        assertTrue(ScenarioCompiler.loadIfFresh(scenario).isPresent());
+    }
+}
@@ -0,0 +1,108 @@
+package runner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import runner.TestBase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScenarioScheduler Tests")
+class ScenarioSchedulerTest extends TestBase {
+
+    @TempDir
+    Path tempDir;
+
+    private String writeScenario(String name, int steps) throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < steps; i++) {
+            json.append(i > 0 ? "," : "").append("{\"action\":\"WAIT\",\"time\":1}");
+        }
+        json.append("]");
+        Path file = tempDir.resolve(name + ".json");
+        Files.writeString(file, json);
+        return file.toString();
+    }
+
+    @Test
+    @DisplayName("Should order scenarios longest first")
+    void shouldOrderScenariosLongestFirst() throws IOException {
+        // Given
+        String shortScenario = writeScenario("short", 2);
+        String longScenario = writeScenario("checkout", 2);
+        ScenarioDurationStore store = new ScenarioDurationStore(tempDir.resolve("durations.properties"));
+        store.record(shortScenario, 1_000);
+        store.record(longScenario, 10_000);
+
+        // When
+        ScenarioScheduler.Schedule schedule = new ScenarioScheduler(store)
+            .schedule(List.of(shortScenario, longScenario), 2);
+
+        // Then
+        assertEquals(List.of(longScenario, shortScenario), schedule.getOrderedPaths());
+        assertEquals(10_000, schedule.getPredictedMakespanMillis());
+    }
+
+    @Test
+    @DisplayName("Should estimate unseen scenarios from step count")
+    void shouldEstimateUnseenScenariosFromStepCount() throws IOException {
+        // Given
+        String known = writeScenario("known", 4);
+        String unseen = writeScenario("unseen", 10);
+        ScenarioDurationStore store = new ScenarioDurationStore(tempDir.resolve("durations.properties"));
+        store.record(known, 2_000, 4);
+
+        // When
+        ScenarioScheduler.Schedule schedule = new ScenarioScheduler(store)
+            .schedule(List.of(known, unseen), 1);
+
+        // Then
+        ScenarioScheduler.ScheduledScenario first = schedule.getScenarios().get(0);
+        assertEquals(unseen, first.getPath());
+        assertTrue(first.isEstimatedFromSteps());
+        assertEquals(5_000, first.getEstimatedMillis());
+        assertEquals(7_000, schedule.getPredictedMakespanMillis());
+    }
+
+    @Test
+    @DisplayName("Should persist durations between runs")
+    void shouldPersistDurationsBetweenRuns() throws IOException {
+        // Given
+        String scenario = writeScenario("persisted", 1);
+        Path storeFile = tempDir.resolve("durations.properties");
+        ScenarioDurationStore store = new ScenarioDurationStore(storeFile);
+        store.record(scenario, 3_000, 1);
+
+        // When
+        store.save();
+        ScenarioDurationStore reloaded = new ScenarioDurationStore(storeFile);
+
+        // Then
+        assertEquals(3_000, reloaded.getDurationMillis(scenario).orElse(-1));
+        assertEquals(1, reloaded.getStepCount(scenario).orElse(-1));
+    }
+
+    @Test
+    @DisplayName("Should not parse scenarios that have recorded history")
+    void shouldNotParseKnownScenarios() throws IOException {
+        // Given: the known scenario's file is gone, so only the store can supply its step count
+        String known = writeScenario("known", 4);
+        String unseen = writeScenario("unseen", 10);
+        ScenarioDurationStore store = new ScenarioDurationStore(tempDir.resolve("durations.properties"));
+        store.record(known, 2_000, 4);
+        Files.delete(Path.of(known));
+
+        // When
+        ScenarioScheduler.Schedule schedule = new ScenarioScheduler(store)
+            .schedule(List.of(known, unseen), 1);
+
+        // Then
+        assertEquals(5_000, schedule.getScenarios().get(0).getEstimatedMillis());
+        assertFalse(schedule.getScenarios().get(1).isEstimatedFromSteps());
+    }
+}
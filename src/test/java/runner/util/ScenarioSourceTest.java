@@ -0,0 +1,82 @@
+package runner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import runner.TestBase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScenarioSource Tests")
+class ScenarioSourceTest extends TestBase {
+
+    @TempDir
+    Path tempDir;
+
+    private Path createFile(String relativePath) throws IOException {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "[]");
+        return file;
+    }
+
+    @Test
+    @DisplayName("Should discover scenarios in nested directories")
+    void shouldDiscoverNestedScenarios() throws Exception {
+        // Given
+        Path top = createFile("login.json");
+        Path nested = createFile("checkout/payment/card.json");
+        createFile("checkout/notes.txt");
+
+        // When
+        List<String> paths;
+        try (ScenarioSource source = new ScenarioSource(List.of(tempDir), List.of(), List.of(), 1)) {
+            paths = source.toList();
+        }
+
+        // Then
+        assertEquals(2, paths.size());
+        assertTrue(paths.containsAll(List.of(top.toString(), nested.toString())));
+    }
+
+    @Test
+    @DisplayName("Should apply include and exclude globs")
+    void shouldApplyIncludeAndExcludeGlobs() throws Exception {
+        // Given
+        Path smoke = createFile("smoke/login.json");
+        createFile("smoke/drafts/wip.json");
+        createFile("regression/search.json");
+
+        // When
+        List<String> paths;
+        try (ScenarioSource source = new ScenarioSource(
+                List.of(tempDir), List.of("smoke/**.json"), List.of("**/drafts/**"), 4)) {
+            paths = source.toList();
+        }
+
+        // Then
+        assertEquals(List.of(smoke.toString()), paths);
+    }
+
+    @Test
+    @DisplayName("Should return null to every consumer once exhausted")
+    void shouldSignalExhaustion() throws Exception {
+        // Given
+        createFile("only.json");
+
+        try (ScenarioSource source = new ScenarioSource(List.of(tempDir), List.of(), List.of(), 1)) {
+            // When
+            assertNotNull(source.next());
+
+            // Then
+            assertNull(source.next());
+            assertNull(source.next());
+            assertEquals(1, source.getDiscoveredCount());
+        }
+    }
+}
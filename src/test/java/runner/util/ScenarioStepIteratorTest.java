@@ -0,0 +1,84 @@
+package runner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import runner.TestBase;
+import runner.model.step.TestAction;
+import runner.model.step.TestStep;
+import runner.model.step.basic.NavigateActionStep;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScenarioStepIterator Tests")
+class ScenarioStepIteratorTest extends TestBase {
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeScenario(String json) throws IOException {
+        Path file = tempDir.resolve("scenario.json");
+        Files.writeString(file, json);
+        return file;
+    }
+
+    @Test
+    @DisplayName("Should read steps one at a time")
+    void shouldReadStepsOneAtATime() throws IOException {
+        // Given
+        Path scenario = writeScenario("""
+            [
+              {"action": "NAVIGATE", "name": "Open", "url": "https://example.com"},
+              {"action": "CLICK", "name": "Click", "target": {"by": "id", "value": "submit"}}
+            ]
+            """);
+
+        try (ScenarioStepIterator steps = ScenarioReader.stream(scenario)) {
+            // When
+            TestStep first = steps.next();
+
+            // Then
+            assertInstanceOf(NavigateActionStep.class, first);
+            assertEquals(1, steps.getStepsRead());
+            assertEquals(TestAction.CLICK, steps.next().getAction());
+            assertFalse(steps.hasNext());
+            assertEquals(2, steps.getStepsRead());
+        }
+    }
+
+    @Test
+    @DisplayName("Should only fail when the malformed step is reached")
+    void shouldFailLazilyOnMalformedStep() throws IOException {
+        // Given
+        Path scenario = writeScenario("""
+            [
+              {"action": "NAVIGATE", "url": "https://example.com"},
+              {"action": "NOT_AN_ACTION"}
+            ]
+            """);
+
+        try (ScenarioStepIterator steps = ScenarioReader.stream(scenario)) {
+            // When
+            TestStep first = steps.next();
+
+            // Then
+            assertNotNull(first);
+            assertThrows(UncheckedIOException.class, steps::next);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject scenarios that are not a JSON array")
+    void shouldRejectNonArrayScenario() throws IOException {
+        // Given
+        Path scenario = writeScenario("{\"action\": \"NAVIGATE\"}");
+
+        // When / Then
+        assertThrows(IOException.class, () -> ScenarioReader.stream(scenario));
+    }
+}
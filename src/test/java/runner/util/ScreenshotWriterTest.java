@@ -0,0 +1,196 @@
+package runner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import runner.TestBase;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScreenshotWriter Tests")
+class ScreenshotWriterTest extends TestBase {
+
+    @Test
+    @DisplayName("Should write screenshots in the background and keep PNG bytes as captured")
+    void shouldWritePngInBackground(@TempDir Path tempDir) throws Exception {
+        // Given
+        ScreenshotWriter writer = new ScreenshotWriter(2, 8, ScreenshotWriter.Format.PNG, 0.8f, 0);
+        byte[] png = png(320, 200);
+        List<CompletableFuture<Path>> writes = new ArrayList<>();
+
+        // When: the directory does not exist yet
+        for (int i = 0; i < 20; i++) {
+            writes.add(writer.write(png, tempDir.resolve("shots").resolve(writer.fileName("shot_" + i))));
+        }
+
+        // Then
+        assertTrue(writer.flush(5_000));
+        for (CompletableFuture<Path> write : writes) {
+            assertArrayEquals(png, Files.readAllBytes(write.get()));
+        }
+        assertEquals(20, writer.getStats().getWritten());
+        assertEquals(0, writer.getPendingCount());
+        writer.shutdown(1_000);
+    }
+
+    @Test
+    @DisplayName("Should scale down and re-encode screenshots as JPEG")
+    void shouldDownscaleToJpeg(@TempDir Path tempDir) throws Exception {
+        // Given
+        ScreenshotWriter writer = new ScreenshotWriter(1, 4, ScreenshotWriter.Format.JPEG, 0.7f, 400);
+        Path file = tempDir.resolve(writer.fileName("page"));
+
+        // When
+        Path written = writer.write(png(1600, 1000), file).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(written.toString().endsWith(".jpg"));
+        BufferedImage image = ImageIO.read(written.toFile());
+        assertEquals(400, image.getWidth());
+        assertEquals(250, image.getHeight());
+        byte[] bytes = Files.readAllBytes(written);
+        assertEquals((byte) 0xFF, bytes[0]);
+        assertEquals((byte) 0xD8, bytes[1]);
+        writer.shutdown(1_000);
+    }
+
+    @Test
+    @DisplayName("Should report a screenshot that cannot be encoded as failed")
+    void shouldFailUnreadableScreenshot(@TempDir Path tempDir) {
+        // Given: no writer threads, so the write happens on this thread
+        ScreenshotWriter writer = new ScreenshotWriter(0, 1, ScreenshotWriter.Format.JPEG, 0.8f, 0);
+
+        // When
+        CompletableFuture<Path> write = writer.write(new byte[] {1, 2, 3}, tempDir.resolve("broken.jpg"));
+
+        // Then
+        assertTrue(write.isDone());
+        ExecutionException error = assertThrows(ExecutionException.class, write::get);
+        assertInstanceOf(IOException.class, error.getCause());
+        assertEquals(1, writer.getStats().getFailed());
+        assertFalse(Files.exists(tempDir.resolve("broken.jpg")));
+    }
+
+    @Test
+    @DisplayName("Should store identical screenshots once and link every file to it")
+    void shouldDeduplicateIdenticalScreenshots(@TempDir Path tempDir) throws Exception {
+        // Given
+        ScreenshotWriter writer = new ScreenshotWriter(4, 8, ScreenshotWriter.Format.PNG, 0.8f, 0, true, -1);
+        byte[] png = png(320, 200);
+        List<CompletableFuture<Path>> writes = new ArrayList<>();
+
+        // When: the same failure page is captured over and over
+        for (int i = 0; i < 50; i++) {
+            writes.add(writer.write(png, tempDir.resolve(writer.fileName("AssertionFail_" + i))));
+        }
+        assertTrue(writer.flush(5_000));
+
+        // Then
+        Path first = writes.get(0).get();
+        for (CompletableFuture<Path> write : writes) {
+            assertTrue(Files.isSameFile(first, write.get()));
+            assertArrayEquals(png, Files.readAllBytes(write.get()));
+        }
+        try (Stream<Path> stored = Files.list(tempDir.resolve(ScreenshotWriter.STORE_DIRECTORY))) {
+            assertEquals(1, stored.count());
+        }
+        ScreenshotWriter.ScreenshotStats stats = writer.getStats();
+        assertEquals(50, stats.getWritten());
+        assertEquals(49, stats.getDeduplicated());
+        assertEquals(png.length, stats.getWrittenBytes());
+        writer.shutdown(1_000);
+    }
+
+    @Test
+    @DisplayName("Should keep an existing file and go on linking when a screenshot name is taken")
+    void shouldNotReplaceExistingScreenshot(@TempDir Path tempDir) throws Exception {
+        // Given: an earlier scenario's screenshot already uses the name
+        ScreenshotWriter writer = new ScreenshotWriter(0, 1, ScreenshotWriter.Format.PNG, 0.8f, 0, true, -1);
+        byte[] png = png(320, 200);
+        byte[] earlier = png(160, 100);
+        Path taken = tempDir.resolve("AssertionFail.png");
+        Files.write(taken, earlier);
+
+        // When
+        Path referenced = writer.write(png, taken).get();
+        Path next = tempDir.resolve(writer.fileName("AssertionFail"));
+        Path linked = writer.write(png, next).get();
+
+        // Then
+        assertArrayEquals(earlier, Files.readAllBytes(taken));
+        assertNotEquals(taken, referenced);
+        assertArrayEquals(png, Files.readAllBytes(referenced));
+        assertEquals(next, linked);
+        assertTrue(Files.isSameFile(referenced, linked));
+    }
+
+    @Test
+    @DisplayName("Should give screenshots with the same base name distinct file names")
+    void shouldMakeFileNamesUnique() {
+        // Given
+        ScreenshotWriter writer = new ScreenshotWriter(0, 1, ScreenshotWriter.Format.PNG, 0.8f, 0);
+
+        // When
+        String first = writer.fileName("AssertionFail_20260101_120000");
+        String second = writer.fileName("AssertionFail_20260101_120000");
+
+        // Then
+        assertNotEquals(first, second);
+        assertTrue(first.endsWith(".png"));
+    }
+
+    @Test
+    @DisplayName("Should reuse a stored image for a near-duplicate screenshot only when enabled")
+    void shouldDeduplicateNearDuplicates(@TempDir Path tempDir) throws Exception {
+        // Given: two captures that differ in a single pixel, e.g. a blinking cursor
+        byte[] original = png(320, 200);
+        BufferedImage changed = ImageIO.read(new ByteArrayInputStream(original));
+        changed.setRGB(5, 5, Color.RED.getRGB());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(changed, "png", out);
+        byte[] nearDuplicate = out.toByteArray();
+        ScreenshotWriter exact = new ScreenshotWriter(0, 1, ScreenshotWriter.Format.PNG, 0.8f, 0, true, -1);
+        ScreenshotWriter near = new ScreenshotWriter(0, 1, ScreenshotWriter.Format.PNG, 0.8f, 0, true, 4);
+
+        // When
+        exact.write(original, tempDir.resolve("exact").resolve("a.png")).get();
+        exact.write(nearDuplicate, tempDir.resolve("exact").resolve("b.png")).get();
+        near.write(original, tempDir.resolve("near").resolve("a.png")).get();
+        Path reused = near.write(nearDuplicate, tempDir.resolve("near").resolve("b.png")).get();
+
+        // Then
+        assertEquals(0, exact.getStats().getDeduplicated());
+        assertEquals(1, near.getStats().getDeduplicated());
+        assertArrayEquals(original, Files.readAllBytes(reused));
+        assertEquals(ScreenshotWriter.perceptualHash(original), ScreenshotWriter.perceptualHash(nearDuplicate));
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
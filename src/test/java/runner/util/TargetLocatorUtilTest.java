@@ -0,0 +1,62 @@
+package runner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import runner.TestBase;
+import runner.model.Target;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TargetLocatorUtil Tests")
+class TargetLocatorUtilTest extends TestBase {
+
+    @Override
+    protected void setUpTest() {
+        TargetLocatorUtil.clearCache();
+    }
+
+    @Test
+    @DisplayName("Should reuse one By instance for equal targets")
+    void shouldInternLocators() {
+        // Given
+        Target first = Target.css("#login");
+        Target second = Target.css("#login");
+
+        // When
+        By firstLocator = TargetLocatorUtil.getBy(first);
+        By secondLocator = TargetLocatorUtil.getBy(second);
+
+        // Then
+        assertSame(firstLocator, secondLocator);
+        assertEquals(By.cssSelector("#login"), firstLocator);
+        TargetLocatorUtil.LocatorCacheStats stats = TargetLocatorUtil.getCacheStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.5, stats.getHitRate(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should keep locators with the same value but different types apart")
+    void shouldDistinguishLocatorTypes() {
+        // When
+        By byId = TargetLocatorUtil.getBy(Target.id("submit"));
+        By byName = TargetLocatorUtil.getBy(Target.name("submit"));
+
+        // Then
+        assertEquals(By.id("submit"), byId);
+        assertEquals(By.name("submit"), byName);
+        assertEquals(2, TargetLocatorUtil.getCacheStats().getSize());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid targets without caching them")
+    void shouldRejectInvalidTargets() {
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> TargetLocatorUtil.getBy(null));
+        assertThrows(IllegalArgumentException.class, () -> TargetLocatorUtil.getBy(Target.css("  ")));
+        assertThrows(IllegalArgumentException.class, () -> TargetLocatorUtil.getBy(Target.create("label", "Name")));
+        assertThrows(IllegalArgumentException.class, () -> TargetLocatorUtil.getBy(Target.create(null, "x")));
+        assertEquals(0, TargetLocatorUtil.getCacheStats().getSize());
+    }
+}
@@ -0,0 +1,197 @@
+package runner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import runner.TestBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("WebDriverPool Tests")
+class WebDriverPoolTest extends TestBase {
+
+    private final List<WebDriver> createdDrivers = Collections.synchronizedList(new ArrayList<>());
+
+    private WebDriverPool createPool(int size) {
+        return new WebDriverPool(size,
+            browserType -> WebDriverFactory.WebDriverConfig.builder().browserType(browserType),
+            config -> {
+                WebDriver driver = createPooledMockDriver();
+                createdDrivers.add(driver);
+                return driver;
+            });
+    }
+
+    private WebDriver createPooledMockDriver() {
+        WebDriver driver = Mockito.mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        lenient().when(driver.getWindowHandle()).thenReturn("main");
+        lenient().when(driver.getWindowHandles()).thenReturn(Set.of("main"));
+        return driver;
+    }
+
+    @Test
+    @DisplayName("Should reuse released sessions")
+    void shouldReuseReleasedSessions() {
+        // Given
+        WebDriverPool pool = createPool(2);
+
+        // When
+        WebDriver first = pool.lease(WebDriverFactory.BrowserType.CHROME);
+        pool.release(first);
+        WebDriver second = pool.lease(WebDriverFactory.BrowserType.CHROME);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, createdDrivers.size());
+
+        WebDriverPool.PoolStats stats = pool.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getCreations());
+        assertEquals(1, stats.getLeasedSessions());
+    }
+
+    @Test
+    @DisplayName("Should reset session state on release")
+    void shouldResetSessionStateOnRelease() {
+        // Given
+        WebDriverPool pool = createPool(1);
+        WebDriver driver = pool.lease(WebDriverFactory.BrowserType.CHROME);
+
+        // When
+        pool.release(driver);
+
+        // Then
+        verify(driver.manage()).deleteAllCookies();
+        verify(driver.navigate()).to("about:blank");
+        assertEquals(1, pool.getStats().getIdleSessions());
+    }
+
+    @Test
+    @DisplayName("Should clear web storage of the current origin and site data of cookie origins over CDP")
+    void shouldClearAllOriginsOverCdp() {
+        // Given
+        WebDriver cdpDriver = mock(WebDriver.class, withSettings().extraInterfaces(HasCdp.class, JavascriptExecutor.class).defaultAnswer(RETURNS_DEEP_STUBS));
+        lenient().when(cdpDriver.getWindowHandle()).thenReturn("main");
+        when(cdpDriver.getWindowHandles()).thenReturn(Set.of("main"));
+        when(cdpDriver.getCurrentUrl()).thenReturn("https://shop.example.com:8443/cart");
+        HasCdp cdp = (HasCdp) cdpDriver;
+        when(cdp.executeCdpCommand(eq("Network.getAllCookies"), anyMap()))
+            .thenReturn(Map.of("cookies", List.of(Map.of("name", "sid", "domain", ".login.example.org"))));
+        WebDriverPool pool = new WebDriverPool(1,
+            browserType -> WebDriverFactory.WebDriverConfig.builder().browserType(browserType),
+            config -> cdpDriver);
+        WebDriver driver = pool.lease(WebDriverFactory.BrowserType.CHROME);
+
+        // When
+        pool.release(driver);
+
+        // Then: Storage.clearDataForOrigin does not reach sessionStorage
+        verify((JavascriptExecutor) cdpDriver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        verify(cdp).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        for (String origin : List.of("https://shop.example.com:8443", "https://login.example.org", "http://login.example.org")) {
+            verify(cdp).executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+        }
+        verify(driver.navigate()).to("about:blank");
+        assertEquals(1, pool.getStats().getIdleSessions());
+    }
+
+    @Test
+    @DisplayName("Should evict sessions that fail the health probe")
+    void shouldEvictUnhealthySessions() {
+        // Given
+        WebDriverPool pool = createPool(1);
+        WebDriver broken = pool.lease(WebDriverFactory.BrowserType.CHROME);
+        pool.release(broken);
+        when(broken.getWindowHandle()).thenThrow(new WebDriverException("session deleted"));
+
+        // When
+        WebDriver replacement = pool.lease(WebDriverFactory.BrowserType.CHROME);
+
+        // Then
+        assertNotSame(broken, replacement);
+        verify(broken).quit();
+        assertEquals(1, pool.getStats().getEvictions());
+        assertEquals(2, pool.getStats().getCreations());
+    }
+
+    @Test
+    @DisplayName("Should keep separate sessions per browser type")
+    void shouldKeepSeparateSessionsPerBrowserType() {
+        // Given
+        WebDriverPool pool = createPool(1);
+
+        // When
+        WebDriver chrome = pool.lease(WebDriverFactory.BrowserType.CHROME);
+        WebDriver firefox = pool.lease(WebDriverFactory.BrowserType.FIREFOX);
+
+        // Then
+        assertNotSame(chrome, firefox);
+        assertEquals(2, pool.getStats().getLeasedSessions());
+    }
+
+    @Test
+    @DisplayName("Should quit idle sessions on shutdown")
+    void shouldQuitIdleSessionsOnShutdown() {
+        // Given
+        WebDriverPool pool = createPool(1);
+        WebDriver driver = pool.lease(WebDriverFactory.BrowserType.CHROME);
+        pool.release(driver);
+
+        // When
+        pool.shutdown();
+
+        // Then
+        verify(driver).quit();
+        assertThrows(IllegalStateException.class, () -> pool.lease(WebDriverFactory.BrowserType.CHROME));
+    }
+
+    @Test
+    @DisplayName("Should hand out pre-warmed sessions instead of launching new ones")
+    void shouldLeasePrewarmedSessions() throws InterruptedException {
+        // Given
+        CountDownLatch launchStarted = new CountDownLatch(1);
+        CountDownLatch launchGate = new CountDownLatch(1);
+        WebDriverPool pool = new WebDriverPool(2,
+            browserType -> WebDriverFactory.WebDriverConfig.builder().browserType(browserType),
+            config -> {
+                launchStarted.countDown();
+                try {
+                    launchGate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                WebDriver driver = createPooledMockDriver();
+                createdDrivers.add(driver);
+                return driver;
+            });
+
+        // When
+        pool.prewarm(WebDriverFactory.BrowserType.CHROME, 1);
+        assertTrue(launchStarted.await(5, TimeUnit.SECONDS));
+        launchGate.countDown();
+        WebDriver driver = pool.lease(WebDriverFactory.BrowserType.CHROME);
+
+        // Then
+        assertSame(createdDrivers.get(0), driver);
+        assertEquals(1, createdDrivers.size());
+
+        WebDriverPool.PoolStats stats = pool.getStats();
+        assertEquals(1, stats.getPrewarmed());
+        assertEquals(1, stats.getHits());
+        assertEquals(0, stats.getMisses());
+    }
+}